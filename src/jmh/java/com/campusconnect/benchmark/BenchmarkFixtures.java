@@ -0,0 +1,51 @@
+package com.campusconnect.benchmark;
+
+import com.campusconnect.entity.Event;
+import com.campusconnect.entity.User;
+
+import java.time.LocalDateTime;
+import java.util.HashSet;
+import java.util.Set;
+
+/**
+ * Detached entities shaped like the seeded data, so benchmarks exercise the same code paths
+ * as a request without a database.
+ */
+final class BenchmarkFixtures {
+    
+    private BenchmarkFixtures() {}
+    
+    static User student(long id) {
+        User user = new User("student" + id, "student" + id + "@university.edu", "unused",
+                "First" + id, "Last" + id, User.Role.STUDENT);
+        user.setId(id);
+        user.setStudentId("STU" + id);
+        user.setDepartment("Computer Science");
+        return user;
+    }
+    
+    static User admin() {
+        User admin = new User("admin", "admin@university.edu", "unused", "Admin", "User", User.Role.ADMIN);
+        admin.setId(0L);
+        return admin;
+    }
+    
+    static Event event(long id, int participantCount) {
+        Event event = new Event("Campus Tech Meetup " + id,
+                "Join us for an exciting tech meetup featuring talks from industry experts.",
+                "Main Campus Auditorium", LocalDateTime.now().plusDays(7), LocalDateTime.now().plusDays(5),
+                participantCount + 10, "Technology", "Tech Club");
+        event.setId(id);
+        event.setCreatedBy(admin());
+        event.setCreatedAt(LocalDateTime.now());
+        event.setUpdatedAt(LocalDateTime.now());
+        
+        Set<User> participants = new HashSet<>();
+        for (long userId = 1; userId <= participantCount; userId++) {
+            participants.add(student(userId));
+        }
+        event.setParticipants(participants);
+        event.setParticipantCount(participantCount);
+        return event;
+    }
+}
@@ -0,0 +1,42 @@
+package com.campusconnect.benchmark;
+
+import com.campusconnect.dto.EventDto;
+import com.campusconnect.entity.Event;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+// Entity-to-DTO mapping behind GET /api/events/public/{eventId}, which copies every participant
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class EventDtoBenchmark {
+    
+    @Param({"10", "1000", "50000"})
+    private int participants;
+    
+    private Event event;
+    
+    @Setup
+    public void setUp() {
+        event = BenchmarkFixtures.event(1, participants);
+    }
+    
+    @Benchmark
+    public EventDto fromEntity() {
+        return EventDto.fromEntity(event);
+    }
+}
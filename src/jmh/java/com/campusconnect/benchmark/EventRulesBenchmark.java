@@ -0,0 +1,50 @@
+package com.campusconnect.benchmark;
+
+import com.campusconnect.entity.Event;
+import com.campusconnect.entity.User;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+// Join eligibility checks on the entity; canJoin also probes the participant set
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class EventRulesBenchmark {
+    
+    @Param({"10", "1000", "50000"})
+    private int participants;
+    
+    private Event event;
+    
+    private User newcomer;
+    
+    @Setup
+    public void setUp() {
+        event = BenchmarkFixtures.event(1, participants);
+        newcomer = BenchmarkFixtures.student(participants + 1L);
+    }
+    
+    @Benchmark
+    public boolean isEventFull() {
+        return event.isEventFull();
+    }
+    
+    @Benchmark
+    public boolean canJoin() {
+        return event.canJoin(newcomer);
+    }
+}
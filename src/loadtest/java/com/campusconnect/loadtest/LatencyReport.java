@@ -0,0 +1,106 @@
+package com.campusconnect.loadtest;
+
+import org.HdrHistogram.ConcurrentHistogram;
+import org.HdrHistogram.Histogram;
+
+import java.io.PrintStream;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Per-endpoint latency histograms and outcome counts for one measured run. Latencies are in
+ * nanoseconds, measured from the intended send time. Dropped requests are in the histograms
+ * but not in the count or throughput, which cover requests actually sent.
+ */
+public class LatencyReport {
+    
+    private static final double NANOS_PER_MILLI = TimeUnit.MILLISECONDS.toNanos(1);
+    
+    private final Map<String, EndpointStats> endpoints = new ConcurrentHashMap<>();
+    
+    public void recordResponse(String endpoint, long latencyNanos, int status) {
+        EndpointStats stats = stats(endpoint);
+        stats.latencies.recordValue(latencyNanos);
+        // 304 is the expected answer to an unchanged conditional poll
+        if (status / 100 != 2 && status != 304) {
+            stats.errors.increment();
+            stats.statuses.computeIfAbsent(status, key -> new LongAdder()).increment();
+        }
+    }
+    
+    public void recordFailure(String endpoint, long latencyNanos) {
+        EndpointStats stats = stats(endpoint);
+        stats.latencies.recordValue(latencyNanos);
+        stats.errors.increment();
+        stats.failures.increment();
+    }
+    
+    public void recordDropped(String endpoint, long latencyNanos) {
+        EndpointStats stats = stats(endpoint);
+        stats.latencies.recordValue(latencyNanos);
+        stats.dropped.increment();
+    }
+    
+    public void print(PrintStream out, double elapsedSeconds) {
+        out.printf("%-42s %8s %9s %7s %8s %9s %9s %9s %9s%n",
+                "endpoint", "count", "req/s", "errors", "dropped", "p50 ms", "p99 ms", "p99.9 ms", "max ms");
+        new TreeMap<>(endpoints).forEach((endpoint, stats) -> {
+            Histogram latencies = stats.latencies;
+            out.printf("%-42s %8d %9.1f %7d %8d %9.2f %9.2f %9.2f %9.2f%n",
+                    endpoint, stats.sent(), stats.sent() / elapsedSeconds,
+                    stats.errors.sum(), stats.dropped.sum(),
+                    millis(latencies.getValueAtPercentile(50)), millis(latencies.getValueAtPercentile(99)),
+                    millis(latencies.getValueAtPercentile(99.9)), millis(latencies.getMaxValue()));
+            if (!stats.statuses.isEmpty() || stats.failures.sum() > 0) {
+                out.printf("%-42s statuses %s, transport failures %d%n", "", stats.statuses, stats.failures.sum());
+            }
+        });
+    }
+    
+    // Plain maps and lists, written out as JSON by the runner
+    public List<Map<String, Object>> toResults(double elapsedSeconds) {
+        List<Map<String, Object>> results = new ArrayList<>();
+        new TreeMap<>(endpoints).forEach((endpoint, stats) -> {
+            Histogram latencies = stats.latencies;
+            Map<String, Object> result = new LinkedHashMap<>();
+            result.put("endpoint", endpoint);
+            result.put("count", stats.sent());
+            result.put("throughput", stats.sent() / elapsedSeconds);
+            result.put("errors", stats.errors.sum());
+            result.put("dropped", stats.dropped.sum());
+            result.put("p50Ms", millis(latencies.getValueAtPercentile(50)));
+            result.put("p99Ms", millis(latencies.getValueAtPercentile(99)));
+            result.put("p999Ms", millis(latencies.getValueAtPercentile(99.9)));
+            result.put("maxMs", millis(latencies.getMaxValue()));
+            results.add(result);
+        });
+        return results;
+    }
+    
+    private EndpointStats stats(String endpoint) {
+        return endpoints.computeIfAbsent(endpoint, key -> new EndpointStats());
+    }
+    
+    private static double millis(long nanos) {
+        return nanos / NANOS_PER_MILLI;
+    }
+    
+    private static class EndpointStats {
+        // Auto-resizing, three significant digits
+        private final Histogram latencies = new ConcurrentHistogram(3);
+        private final LongAdder errors = new LongAdder();
+        private final LongAdder failures = new LongAdder();
+        private final LongAdder dropped = new LongAdder();
+        private final Map<Integer, LongAdder> statuses = new ConcurrentHashMap<>();
+        
+        private long sent() {
+            return latencies.getTotalCount() - dropped.sum();
+        }
+    }
+}
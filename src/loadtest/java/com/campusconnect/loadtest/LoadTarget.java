@@ -0,0 +1,114 @@
+package com.campusconnect.loadtest;
+
+import java.net.URI;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Consumer;
+
+/**
+ * What the scenarios run against: the embedded server, the logged-in students, the seeded
+ * events and the event created for join traffic. Also builds the requests, so every scenario
+ * labels the same endpoint the same way in the report.
+ */
+public class LoadTarget {
+    
+    private static final Duration REQUEST_TIMEOUT = Duration.ofSeconds(30);
+    
+    private final URI baseUri;
+    
+    private final List<String> studentTokens;
+    
+    private final List<Long> eventIds;
+    
+    private final long joinEventId;
+    
+    // Last ETag seen per event, so detail polls are conditional like a real polling client
+    private final Map<Long, String> eventETags = new ConcurrentHashMap<>();
+    
+    public LoadTarget(URI baseUri, List<String> studentTokens, List<Long> eventIds, long joinEventId) {
+        this.baseUri = baseUri;
+        this.studentTokens = studentTokens;
+        this.eventIds = eventIds;
+        this.joinEventId = joinEventId;
+    }
+    
+    public LoadRequest listAll() {
+        return new LoadRequest("GET /api/events/public/all", get("/api/events/public/all?size=20", null).build());
+    }
+    
+    public LoadRequest listUpcoming() {
+        return new LoadRequest("GET /api/events/public/upcoming", get("/api/events/public/upcoming?size=20", null).build());
+    }
+    
+    public LoadRequest listOpenRegistration() {
+        return new LoadRequest("GET /api/events/public/open-registration",
+                get("/api/events/public/open-registration?size=20", null).build());
+    }
+    
+    public LoadRequest search(String keyword) {
+        return new LoadRequest("GET /api/events/public/search", get("/api/events/public/search?keyword=" + keyword, null).build());
+    }
+    
+    public LoadRequest pollEvent(long eventId) {
+        HttpRequest.Builder builder = get("/api/events/public/" + eventId, null);
+        String etag = eventETags.get(eventId);
+        if (etag != null) {
+            builder.header("If-None-Match", etag);
+        }
+        return new LoadRequest("GET /api/events/public/{id}", builder.build(),
+                response -> {
+                    if (response != null) {
+                        response.headers().firstValue("ETag").ifPresent(value -> eventETags.put(eventId, value));
+                    }
+                });
+    }
+    
+    public LoadRequest myParticipations(int student) {
+        return new LoadRequest("GET /api/events/my-participations",
+                get("/api/events/my-participations?size=20", studentTokens.get(student)).build());
+    }
+    
+    public LoadRequest join(int student, Consumer<HttpResponse<?>> onResponse) {
+        return new LoadRequest("POST /api/events/{id}/join", post("/api/events/" + joinEventId + "/join", student), onResponse);
+    }
+    
+    public LoadRequest leave(int student, Consumer<HttpResponse<?>> onResponse) {
+        return new LoadRequest("POST /api/events/{id}/leave", post("/api/events/" + joinEventId + "/leave", student), onResponse);
+    }
+    
+    public int getStudentCount() {
+        return studentTokens.size();
+    }
+    
+    public List<Long> getEventIds() {
+        return eventIds;
+    }
+    
+    private HttpRequest.Builder get(String path, String token) {
+        HttpRequest.Builder builder = HttpRequest.newBuilder(baseUri.resolve(path)).timeout(REQUEST_TIMEOUT).GET();
+        if (token != null) {
+            builder.header("Authorization", "Bearer " + token);
+        }
+        return builder;
+    }
+    
+    private HttpRequest post(String path, int student) {
+        return HttpRequest.newBuilder(baseUri.resolve(path))
+                .timeout(REQUEST_TIMEOUT)
+                .header("Authorization", "Bearer " + studentTokens.get(student))
+                .POST(HttpRequest.BodyPublishers.noBody())
+                .build();
+    }
+    
+    // onResponse is called with null when the request failed without a response
+    public record LoadRequest(String endpoint, HttpRequest request, Consumer<HttpResponse<?>> onResponse) {
+        
+        public LoadRequest(String endpoint, HttpRequest request) {
+            this(endpoint, request, response -> {});
+        }
+    }
+}
@@ -0,0 +1,90 @@
+package com.campusconnect.loadtest;
+
+/**
+ * Harness settings, passed as key=value arguments (see -Dloadtest.args in the loadtest profile).
+ */
+public class LoadTestOptions {
+    
+    private Scenario scenario = Scenario.MIXED;
+    
+    // Intended requests per second; requests are scheduled at this rate whatever the response times
+    private int rate = 200;
+    
+    private int durationSeconds = 30;
+    
+    // Run before measuring and discarded, so JIT compilation and cache population are not reported
+    private int warmupSeconds = 10;
+    
+    private int students = 200;
+    
+    // Requests still outstanding beyond this are counted as dropped instead of being sent
+    private int maxInFlight = 10_000;
+    
+    private boolean queuedAdmission;
+    
+    private String output = "target/loadtest-result.json";
+    
+    public static LoadTestOptions parse(String[] args) {
+        LoadTestOptions options = new LoadTestOptions();
+        for (String arg : args) {
+            int separator = arg.indexOf('=');
+            if (separator < 0) {
+                throw new IllegalArgumentException("Expected key=value, got: " + arg);
+            }
+            String value = arg.substring(separator + 1);
+            switch (arg.substring(0, separator)) {
+                case "scenario" -> options.scenario = Scenario.fromParam(value);
+                case "rate" -> options.rate = Integer.parseInt(value);
+                case "duration" -> options.durationSeconds = Integer.parseInt(value);
+                case "warmup" -> options.warmupSeconds = Integer.parseInt(value);
+                case "students" -> options.students = Integer.parseInt(value);
+                case "maxInFlight" -> options.maxInFlight = Integer.parseInt(value);
+                case "queued" -> options.queuedAdmission = Boolean.parseBoolean(value);
+                case "output" -> options.output = value;
+                default -> throw new IllegalArgumentException("Unknown option: " + arg);
+            }
+        }
+        if (options.rate < 1 || options.students < 1 || options.maxInFlight < 1) {
+            throw new IllegalArgumentException("rate, students and maxInFlight must be positive");
+        }
+        return options;
+    }
+    
+    @Override
+    public String toString() {
+        return "scenario=" + scenario.name().toLowerCase() + " rate=" + rate + "/s duration=" + durationSeconds
+                + "s warmup=" + warmupSeconds + "s students=" + students + " queued=" + queuedAdmission;
+    }
+    
+    public Scenario getScenario() {
+        return scenario;
+    }
+    
+    public int getRate() {
+        return rate;
+    }
+    
+    public int getDurationSeconds() {
+        return durationSeconds;
+    }
+    
+    public int getWarmupSeconds() {
+        return warmupSeconds;
+    }
+    
+    public int getStudents() {
+        return students;
+    }
+    
+    public int getMaxInFlight() {
+        return maxInFlight;
+    }
+    
+    public boolean isQueuedAdmission() {
+        return queuedAdmission;
+    }
+    
+    public String getOutput() {
+        return output;
+    }
+}
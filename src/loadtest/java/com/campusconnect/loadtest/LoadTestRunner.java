@@ -0,0 +1,202 @@
+package com.campusconnect.loadtest;
+
+import com.campusconnect.CampusConnectApplication;
+import com.campusconnect.entity.User;
+import com.campusconnect.repository.UserRepository;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.boot.SpringApplication;
+import org.springframework.boot.web.context.WebServerApplicationContext;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import java.io.File;
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Boots the application on a random local port with the seeded H2 database, adds and logs in
+ * synthetic students, then drives one scenario at a fixed arrival rate and reports throughput
+ * and latency percentiles per endpoint. Everything runs in this JVM; no outside services.
+ *
+ * The server and the load generator share the machine, so results compare builds on the same
+ * box rather than predict production capacity.
+ */
+public class LoadTestRunner {
+    
+    private static final String STUDENT_PASSWORD = "loadtest123";
+    
+    // Logins are BCrypt-bound; stay well under the login pool's queue so setup is never rejected
+    private static final int LOGIN_PARALLELISM = 8;
+    
+    private final LoadTestOptions options;
+    
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    
+    private final HttpClient client = HttpClient.newBuilder()
+            .version(HttpClient.Version.HTTP_1_1)
+            .connectTimeout(Duration.ofSeconds(5))
+            .build();
+    
+    private URI baseUri;
+    
+    public LoadTestRunner(LoadTestOptions options) {
+        this.options = options;
+    }
+    
+    public static void main(String[] args) throws Exception {
+        LoadTestOptions options = LoadTestOptions.parse(args);
+        // Request-level DEBUG logging from application.properties would dominate the measurement
+        ConfigurableApplicationContext context = SpringApplication.run(CampusConnectApplication.class,
+                "--server.port=0", "--catalog.port=0", "--spring.jpa.show-sql=false", "--logging.level.root=WARN",
+                "--logging.level.com.campusconnect=WARN", "--logging.level.org.springframework.security=WARN");
+        try {
+            new LoadTestRunner(options).run(context);
+        } finally {
+            context.close();
+        }
+        System.exit(0);
+    }
+    
+    void run(ConfigurableApplicationContext context) throws Exception {
+        int port = ((WebServerApplicationContext) context).getWebServer().getPort();
+        baseUri = URI.create("http://localhost:" + port);
+        System.out.println("Load test: " + options);
+        
+        seedStudents(context);
+        List<String> studentTokens = loginStudents();
+        String adminToken = login("admin", "admin123");
+        long joinEventId = createJoinEvent(adminToken);
+        LoadTarget target = new LoadTarget(baseUri, studentTokens, publicEventIds(), joinEventId);
+        
+        Scenario.Workload workload = options.getScenario().newWorkload(target);
+        OpenLoopDriver driver = new OpenLoopDriver(client, options.getMaxInFlight());
+        if (!options.getScenario().isBounded() && options.getWarmupSeconds() > 0) {
+            System.out.println("Warming up for " + options.getWarmupSeconds() + "s...");
+            driver.run(workload, options.getRate(), TimeUnit.SECONDS.toNanos(options.getWarmupSeconds()), new LatencyReport());
+        }
+        
+        System.out.println("Measuring...");
+        LatencyReport report = new LatencyReport();
+        double elapsedSeconds = driver.run(workload, options.getRate(),
+                TimeUnit.SECONDS.toNanos(options.getDurationSeconds()), report);
+        
+        System.out.println();
+        report.print(System.out, elapsedSeconds);
+        writeResults(report, elapsedSeconds);
+    }
+    
+    // Inserted directly with one shared hash; hashing a password per student would dominate setup
+    private void seedStudents(ConfigurableApplicationContext context) {
+        UserRepository userRepository = context.getBean(UserRepository.class);
+        String passwordHash = context.getBean(PasswordEncoder.class).encode(STUDENT_PASSWORD);
+        
+        List<User> students = new ArrayList<>(options.getStudents());
+        for (int i = 0; i < options.getStudents(); i++) {
+            User student = new User(studentName(i), studentName(i) + "@student.edu", passwordHash,
+                    "Load", "Student " + i, User.Role.STUDENT);
+            student.setStudentId("LT" + i);
+            student.setDepartment("Load Testing");
+            students.add(student);
+        }
+        userRepository.saveAll(students);
+    }
+    
+    private List<String> loginStudents() throws Exception {
+        System.out.println("Logging in " + options.getStudents() + " students...");
+        ExecutorService logins = Executors.newFixedThreadPool(LOGIN_PARALLELISM);
+        try {
+            List<Future<String>> tokens = new ArrayList<>(options.getStudents());
+            for (int i = 0; i < options.getStudents(); i++) {
+                String username = studentName(i);
+                tokens.add(logins.submit(() -> login(username, STUDENT_PASSWORD)));
+            }
+            List<String> result = new ArrayList<>(tokens.size());
+            for (Future<String> token : tokens) {
+                result.add(token.get());
+            }
+            return result;
+        } finally {
+            logins.shutdown();
+        }
+    }
+    
+    private String login(String username, String password) throws IOException, InterruptedException {
+        String body = objectMapper.writeValueAsString(Map.of("username", username, "password", password));
+        HttpRequest request = HttpRequest.newBuilder(baseUri.resolve("/api/auth/login"))
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofString(body))
+                .build();
+        return send(request).get("token").asText();
+    }
+    
+    // A dedicated event big enough for every student, so joins only fail for the intended reasons
+    private long createJoinEvent(String adminToken) throws IOException, InterruptedException {
+        Map<String, Object> event = new LinkedHashMap<>();
+        event.put("title", "Load Test Event");
+        event.put("description", "Target event for the join traffic of the load-test harness.");
+        event.put("location", "Main Campus Auditorium");
+        event.put("eventDateTime", LocalDateTime.now().plusDays(7).withNano(0).toString());
+        event.put("registrationDeadline", LocalDateTime.now().plusDays(5).withNano(0).toString());
+        event.put("maxParticipants", options.getStudents());
+        event.put("category", "Technology");
+        event.put("organizer", "Load Test");
+        event.put("queuedAdmission", options.isQueuedAdmission());
+        
+        HttpRequest request = HttpRequest.newBuilder(baseUri.resolve("/api/events"))
+                .header("Content-Type", "application/json")
+                .header("Authorization", "Bearer " + adminToken)
+                .POST(HttpRequest.BodyPublishers.ofString(objectMapper.writeValueAsString(event)))
+                .build();
+        return send(request).get("id").asLong();
+    }
+    
+    private List<Long> publicEventIds() throws IOException, InterruptedException {
+        HttpRequest request = HttpRequest.newBuilder(baseUri.resolve("/api/events/public/all?size=100")).GET().build();
+        List<Long> eventIds = new ArrayList<>();
+        send(request).get("items").forEach(item -> eventIds.add(item.get("id").asLong()));
+        return eventIds;
+    }
+    
+    private JsonNode send(HttpRequest request) throws IOException, InterruptedException {
+        HttpResponse<String> response = client.send(request, HttpResponse.BodyHandlers.ofString());
+        if (response.statusCode() != 200) {
+            throw new IllegalStateException(request.uri() + " returned " + response.statusCode() + ": " + response.body());
+        }
+        return objectMapper.readTree(response.body());
+    }
+    
+    private void writeResults(LatencyReport report, double elapsedSeconds) throws IOException {
+        Map<String, Object> results = new LinkedHashMap<>();
+        results.put("scenario", options.getScenario().name().toLowerCase());
+        results.put("rate", options.getRate());
+        results.put("durationSeconds", elapsedSeconds);
+        results.put("students", options.getStudents());
+        results.put("queuedAdmission", options.isQueuedAdmission());
+        results.put("endpoints", report.toResults(elapsedSeconds));
+        
+        File output = new File(options.getOutput());
+        if (output.getParentFile() != null) {
+            output.getParentFile().mkdirs();
+        }
+        objectMapper.writerWithDefaultPrettyPrinter().writeValue(output, results);
+        System.out.println("Results written to " + output.getPath());
+    }
+    
+    private static String studentName(int i) {
+        return "loadtest.student." + i;
+    }
+}
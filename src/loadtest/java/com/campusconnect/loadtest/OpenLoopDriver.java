@@ -0,0 +1,92 @@
+package com.campusconnect.loadtest;
+
+import java.net.http.HttpClient;
+import java.net.http.HttpResponse;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Sends requests on a fixed schedule regardless of how fast responses come back (open loop).
+ * Latency is measured from when a request was due, not from when it was actually sent, so a
+ * stalled server or a late sender thread shows up as latency instead of silently lowering the
+ * offered load (coordinated omission).
+ *
+ * Requests over maxInFlight are not sent, but they still count: each is recorded with the
+ * latency from when it was due to the end of the run, as if it was still waiting then, so
+ * dropping cannot flatter the percentiles either.
+ */
+public class OpenLoopDriver {
+    
+    private static final long DRAIN_TIMEOUT_NANOS = TimeUnit.SECONDS.toNanos(60);
+    
+    private final HttpClient client;
+    
+    private final int maxInFlight;
+    
+    private final AtomicInteger inFlight = new AtomicInteger();
+    
+    public OpenLoopDriver(HttpClient client, int maxInFlight) {
+        this.client = client;
+        this.maxInFlight = maxInFlight;
+    }
+    
+    /**
+     * Runs the workload at the given rate until the duration is up or a bounded workload is
+     * exhausted, then waits for outstanding responses. Returns the seconds spent sending, which
+     * is the window throughput is reported over.
+     */
+    public double run(Scenario.Workload workload, int ratePerSecond, long durationNanos, LatencyReport report) {
+        long interval = TimeUnit.SECONDS.toNanos(1) / ratePerSecond;
+        long start = System.nanoTime();
+        long end = start + durationNanos;
+        
+        List<Dropped> dropped = new ArrayList<>();
+        long sendingEnded;
+        for (long sent = 0; ; sent++) {
+            long intended = start + sent * interval;
+            if (intended >= end) {
+                sendingEnded = end;
+                break;
+            }
+            long wait = intended - System.nanoTime();
+            if (wait > 0) {
+                LockSupport.parkNanos(wait);
+            }
+            
+            LoadTarget.LoadRequest request = workload.next();
+            if (request == null) {
+                sendingEnded = System.nanoTime();
+                break;
+            }
+            if (inFlight.incrementAndGet() > maxInFlight) {
+                inFlight.decrementAndGet();
+                dropped.add(new Dropped(request.endpoint(), intended));
+                continue;
+            }
+            client.sendAsync(request.request(), HttpResponse.BodyHandlers.discarding())
+                    .whenComplete((response, error) -> {
+                        long latency = System.nanoTime() - intended;
+                        inFlight.decrementAndGet();
+                        if (error != null) {
+                            report.recordFailure(request.endpoint(), latency);
+                        } else {
+                            report.recordResponse(request.endpoint(), latency, response.statusCode());
+                        }
+                        request.onResponse().accept(response);
+                    });
+        }
+        
+        long drainDeadline = System.nanoTime() + DRAIN_TIMEOUT_NANOS;
+        while (inFlight.get() > 0 && System.nanoTime() < drainDeadline) {
+            LockSupport.parkNanos(TimeUnit.MILLISECONDS.toNanos(10));
+        }
+        long runEnded = System.nanoTime();
+        dropped.forEach(request -> report.recordDropped(request.endpoint(), runEnded - request.intended()));
+        return (sendingEnded - start) / 1e9;
+    }
+    
+    private record Dropped(String endpoint, long intended) {}
+}
@@ -0,0 +1,172 @@
+package com.campusconnect.loadtest;
+
+import java.net.http.HttpResponse;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+import java.util.function.Function;
+
+/**
+ * The traffic mixes the harness can generate. Each run creates a fresh Workload, which the
+ * driver asks for the next request at every scheduled send time.
+ */
+public enum Scenario {
+    
+    // Anonymous visitors paging through the public listings and searching
+    BROWSE(BrowseWorkload::new),
+    
+    // Clients watching seat counts on event detail pages, revalidating with If-None-Match
+    POLL(PollWorkload::new),
+    
+    // Every student joins the same event once, as fast as the rate allows
+    JOIN_STORM(JoinStormWorkload::new),
+    
+    // Mostly reads, with students joining and leaving the load-test event
+    MIXED(MixedWorkload::new);
+    
+    private final Function<LoadTarget, Workload> factory;
+    
+    Scenario(Function<LoadTarget, Workload> factory) {
+        this.factory = factory;
+    }
+    
+    public static Scenario fromParam(String scenario) {
+        for (Scenario candidate : values()) {
+            if (candidate.name().replace('_', '-').equalsIgnoreCase(scenario)
+                    || candidate.name().equalsIgnoreCase(scenario)) {
+                return candidate;
+            }
+        }
+        throw new IllegalArgumentException("Unknown scenario: " + scenario);
+    }
+    
+    public Workload newWorkload(LoadTarget target) {
+        return factory.apply(target);
+    }
+    
+    // The join storm issues a fixed number of requests; the others run for the configured duration
+    public boolean isBounded() {
+        return this == JOIN_STORM;
+    }
+    
+    public interface Workload {
+        
+        // Returns null once a bounded workload has issued everything
+        LoadTarget.LoadRequest next();
+    }
+    
+    private static class BrowseWorkload implements Workload {
+        
+        private static final List<String> KEYWORDS = List.of("campus", "tech", "sports", "music", "career");
+        
+        private final LoadTarget target;
+        
+        BrowseWorkload(LoadTarget target) {
+            this.target = target;
+        }
+        
+        @Override
+        public LoadTarget.LoadRequest next() {
+            ThreadLocalRandom random = ThreadLocalRandom.current();
+            int roll = random.nextInt(100);
+            if (roll < 40) {
+                return target.listAll();
+            }
+            if (roll < 65) {
+                return target.listUpcoming();
+            }
+            if (roll < 85) {
+                return target.listOpenRegistration();
+            }
+            return target.search(KEYWORDS.get(random.nextInt(KEYWORDS.size())));
+        }
+    }
+    
+    private static class PollWorkload implements Workload {
+        
+        private final LoadTarget target;
+        
+        PollWorkload(LoadTarget target) {
+            this.target = target;
+        }
+        
+        @Override
+        public LoadTarget.LoadRequest next() {
+            List<Long> eventIds = target.getEventIds();
+            return target.pollEvent(eventIds.get(ThreadLocalRandom.current().nextInt(eventIds.size())));
+        }
+    }
+    
+    private static class JoinStormWorkload implements Workload {
+        
+        private final LoadTarget target;
+        
+        private final AtomicInteger nextStudent = new AtomicInteger();
+        
+        JoinStormWorkload(LoadTarget target) {
+            this.target = target;
+        }
+        
+        @Override
+        public LoadTarget.LoadRequest next() {
+            int student = nextStudent.getAndIncrement();
+            return student < target.getStudentCount() ? target.join(student, response -> {}) : null;
+        }
+    }
+    
+    private static class MixedWorkload implements Workload {
+        
+        private static final int OUT = 0;
+        
+        private static final int IN = 1;
+        
+        private static final int PENDING = 2;
+        
+        private final LoadTarget target;
+        
+        private final BrowseWorkload browse;
+        
+        private final PollWorkload poll;
+        
+        // Per student: registered for the join event or not, or a join/leave is still in flight
+        private final AtomicIntegerArray registration;
+        
+        MixedWorkload(LoadTarget target) {
+            this.target = target;
+            this.browse = new BrowseWorkload(target);
+            this.poll = new PollWorkload(target);
+            this.registration = new AtomicIntegerArray(target.getStudentCount());
+        }
+        
+        @Override
+        public LoadTarget.LoadRequest next() {
+            ThreadLocalRandom random = ThreadLocalRandom.current();
+            int roll = random.nextInt(100);
+            if (roll < 45) {
+                return browse.next();
+            }
+            if (roll < 70) {
+                return poll.next();
+            }
+            int student = random.nextInt(target.getStudentCount());
+            if (roll < 85) {
+                return target.myParticipations(student);
+            }
+            
+            // Only one write per student at a time, so a leave never overtakes its join
+            if (registration.compareAndSet(student, OUT, PENDING)) {
+                return target.join(student, response -> settle(student, response, IN, OUT));
+            }
+            if (registration.compareAndSet(student, IN, PENDING)) {
+                return target.leave(student, response -> settle(student, response, OUT, IN));
+            }
+            return target.myParticipations(student);
+        }
+        
+        private void settle(int student, HttpResponse<?> response, int onSuccess, int onFailure) {
+            boolean succeeded = response != null && response.statusCode() / 100 == 2;
+            registration.set(student, succeeded ? onSuccess : onFailure);
+        }
+    }
+}
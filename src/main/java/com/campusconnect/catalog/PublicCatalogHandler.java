@@ -0,0 +1,217 @@
+package com.campusconnect.catalog;
+
+import com.campusconnect.dto.CursorPage;
+import com.campusconnect.exception.GlobalExceptionHandler;
+import com.campusconnect.search.EventSearchIndex;
+import com.campusconnect.search.EventSuggestionIndex;
+import com.campusconnect.search.EventTimeIndex;
+import com.campusconnect.service.EventService;
+import com.campusconnect.service.PublicListingSnapshots;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.web.reactive.function.server.ServerRequest;
+import org.springframework.web.reactive.function.server.ServerResponse;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Scheduler;
+import reactor.core.scheduler.Schedulers;
+
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.concurrent.Callable;
+import java.util.function.Supplier;
+
+/**
+ * Handler functions of the public catalog. Listings come from the PublicListingSnapshots
+ * projection, search, suggestions and date ranges from the in-memory indexes; none of that
+ * blocks, so it runs on the event loop. The event detail needs the database for its description
+ * and participants, so it runs on a small scheduler of its own (catalog.database-threads) that
+ * caps how many pooled connections the catalog can hold.
+ *
+ * One ETag covers the listings (the snapshot version), so pollers revalidate with a string
+ * comparison and only get a body after some event changed. The detail carries the same
+ * per-event ETag as the servlet API.
+ */
+@Component
+public class PublicCatalogHandler {
+    
+    private static final int MAX_PAGE_SIZE = 100;
+    
+    private static final int MAX_SUGGESTIONS = 20;
+    
+    // Detail lookups allowed to wait for a database thread before new ones are rejected
+    private static final int DATABASE_QUEUE_CAPACITY = 1000;
+    
+    @Autowired
+    private EventService eventService;
+    
+    @Autowired
+    private PublicListingSnapshots listingSnapshots;
+    
+    @Autowired
+    private EventSearchIndex searchIndex;
+    
+    @Autowired
+    private EventSuggestionIndex suggestionIndex;
+    
+    @Autowired
+    private EventTimeIndex timeIndex;
+    
+    @Value("${catalog.database-threads}")
+    private int databaseThreads;
+    
+    private Scheduler databaseScheduler;
+    
+    @PostConstruct
+    void start() {
+        databaseScheduler = Schedulers.newBoundedElastic(databaseThreads, DATABASE_QUEUE_CAPACITY, "catalog-database");
+    }
+    
+    @PreDestroy
+    void stop() {
+        databaseScheduler.dispose();
+    }
+    
+    public Mono<ServerResponse> getAllEvents(ServerRequest request) {
+        return conditional(request, () -> listingSnapshots.getAllActiveEvents(cursor(request), size(request)));
+    }
+    
+    public Mono<ServerResponse> getUpcomingEvents(ServerRequest request) {
+        return conditional(request, () -> listingSnapshots.getUpcomingEvents(cursor(request), size(request)));
+    }
+    
+    public Mono<ServerResponse> getEventsWithOpenRegistration(ServerRequest request) {
+        return conditional(request, () -> listingSnapshots.getEventsWithOpenRegistration(cursor(request), size(request)));
+    }
+    
+    public Mono<ServerResponse> getEventsByCategory(ServerRequest request) {
+        String category = request.pathVariable("category");
+        return conditional(request, () -> listingSnapshots.getEventsByCategory(category, cursor(request), size(request)));
+    }
+    
+    // Same body and ETag as /api/events/public/{eventId}; a matching If-None-Match only costs the version lookup
+    public Mono<ServerResponse> getEvent(ServerRequest request) {
+        return Mono.defer(() -> {
+            Long eventId = parseId(request.pathVariable("eventId"));
+            return onDatabase(() -> eventService.getEventETag(eventId))
+                    .flatMap(etag -> request.checkNotModified(etag)
+                            .switchIfEmpty(onDatabase(() -> eventService.getEventById(eventId))
+                                    .flatMap(event -> ServerResponse.ok()
+                                            .eTag(etag)
+                                            .cacheControl(CacheControl.noCache())
+                                            .contentType(MediaType.APPLICATION_JSON)
+                                            .bodyValue(event))));
+        });
+    }
+    
+    public Mono<ServerResponse> searchEvents(ServerRequest request) {
+        return conditional(request, () -> {
+            String keyword = requiredParam(request, "keyword");
+            EventSearchIndex.SearchPage hits = searchIndex.search(keyword, cursor(request), size(request));
+            return new CursorPage<>(listingSnapshots.getEvents(hits.getEventIds()), hits.getNextCursor());
+        });
+    }
+    
+    public Mono<ServerResponse> getEventsInRange(ServerRequest request) {
+        return conditional(request, () -> {
+            LocalDateTime from = parseDateTime(requiredParam(request, "from"));
+            LocalDateTime to = parseDateTime(requiredParam(request, "to"));
+            if (!from.isBefore(to)) {
+                throw new RuntimeException("from must be before to");
+            }
+            EventTimeIndex.Field field = EventTimeIndex.Field.fromParam(request.queryParam("by").orElse("start"));
+            CursorPage<Long> hits = timeIndex.range(field, from, to, cursor(request), size(request));
+            return new CursorPage<>(listingSnapshots.getEvents(hits.getItems()), hits.getNextCursor());
+        });
+    }
+    
+    public Mono<ServerResponse> suggestEvents(ServerRequest request) {
+        return Mono.defer(() -> {
+            String prefix = requiredParam(request, "prefix");
+            int limit = intParam(request, "limit", 10);
+            return ServerResponse.ok().contentType(MediaType.APPLICATION_JSON)
+                    .bodyValue(suggestionIndex.suggest(prefix, Math.max(1, Math.min(limit, MAX_SUGGESTIONS))));
+        });
+    }
+    
+    // Same status, body shape and Retry-After as the servlet API's GlobalExceptionHandler
+    public Mono<ServerResponse> busy(Throwable error, ServerRequest request) {
+        return ServerResponse.status(HttpStatus.SERVICE_UNAVAILABLE).contentType(MediaType.APPLICATION_JSON)
+                .header(HttpHeaders.RETRY_AFTER, "1")
+                .bodyValue(new GlobalExceptionHandler.ErrorResponse(HttpStatus.SERVICE_UNAVAILABLE.value(),
+                        "Server is busy, please try again"));
+    }
+    
+    public Mono<ServerResponse> badRequest(Throwable error, ServerRequest request) {
+        return ServerResponse.status(HttpStatus.BAD_REQUEST).contentType(MediaType.APPLICATION_JSON)
+                .bodyValue(new GlobalExceptionHandler.ErrorResponse(HttpStatus.BAD_REQUEST.value(), error.getMessage()));
+    }
+    
+    // The tag is read before the body, so a body is never older than the tag it is sent with.
+    // checkNotModified completes empty unless the client already holds this version; the body is
+    // built inside the Mono so that parameter errors reach the router's error handler.
+    private Mono<ServerResponse> conditional(ServerRequest request, Supplier<Object> body) {
+        String etag = "catalog-" + listingSnapshots.getVersionTag();
+        return request.checkNotModified(etag)
+                .switchIfEmpty(Mono.defer(() -> ServerResponse.ok()
+                        .eTag(etag)
+                        .cacheControl(CacheControl.noCache())
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .bodyValue(body.get())));
+    }
+    
+    private <T> Mono<T> onDatabase(Callable<T> work) {
+        return Mono.fromCallable(work).subscribeOn(databaseScheduler);
+    }
+    
+    private static String cursor(ServerRequest request) {
+        return request.queryParam("cursor").orElse(null);
+    }
+    
+    private static int size(ServerRequest request) {
+        int size = intParam(request, "size", 20);
+        if (size < 1) {
+            throw new RuntimeException("Page size must be positive");
+        }
+        return Math.min(size, MAX_PAGE_SIZE);
+    }
+    
+    private static String requiredParam(ServerRequest request, String name) {
+        return request.queryParam(name)
+                .orElseThrow(() -> new RuntimeException("Missing request parameter: " + name));
+    }
+    
+    private static int intParam(ServerRequest request, String name, int defaultValue) {
+        String value = request.queryParam(name).orElse(null);
+        if (value == null) {
+            return defaultValue;
+        }
+        try {
+            return Integer.parseInt(value);
+        } catch (NumberFormatException e) {
+            throw new RuntimeException("Invalid " + name + ": " + value);
+        }
+    }
+    
+    private static Long parseId(String value) {
+        try {
+            return Long.valueOf(value);
+        } catch (NumberFormatException e) {
+            throw new RuntimeException("Invalid event id: " + value);
+        }
+    }
+    
+    private static LocalDateTime parseDateTime(String value) {
+        try {
+            return LocalDateTime.parse(value);
+        } catch (DateTimeParseException e) {
+            throw new RuntimeException("Invalid date-time: " + value);
+        }
+    }
+}
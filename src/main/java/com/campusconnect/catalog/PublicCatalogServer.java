@@ -0,0 +1,135 @@
+package com.campusconnect.catalog;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.MediaType;
+import org.springframework.http.codec.json.Jackson2JsonEncoder;
+import org.springframework.http.server.reactive.ReactorHttpHandlerAdapter;
+import org.springframework.stereotype.Component;
+import org.springframework.web.cors.CorsConfiguration;
+import org.springframework.web.cors.reactive.CorsWebFilter;
+import org.springframework.web.cors.reactive.UrlBasedCorsConfigurationSource;
+import org.springframework.web.reactive.function.server.HandlerStrategies;
+import org.springframework.web.reactive.function.server.RouterFunction;
+import org.springframework.web.reactive.function.server.RouterFunctions;
+import org.springframework.web.reactive.function.server.ServerResponse;
+import reactor.netty.DisposableServer;
+import reactor.netty.http.server.HttpServer;
+import reactor.netty.resources.LoopResources;
+
+import java.util.concurrent.RejectedExecutionException;
+
+/**
+ * Read-only public catalog on its own Reactor Netty port, next to the servlet API. It shares
+ * the in-memory projections with the main application but none of its request threads or
+ * security chain, and only the event detail touches the connection pool, through a few threads
+ * of its own. Catalog traffic cannot slow down writes and a busy write path cannot slow down the
+ * catalog listings. Only public data is served, hence no security.
+ *
+ * Off by default: when enabled, catalog.port must be free alongside server.port.
+ */
+@Component
+public class PublicCatalogServer implements SmartLifecycle {
+    
+    private static final Logger logger = LoggerFactory.getLogger(PublicCatalogServer.class);
+    
+    @Autowired
+    private PublicCatalogHandler handler;
+    
+    @Autowired
+    private ObjectMapper objectMapper;
+    
+    @Value("${catalog.enabled}")
+    private boolean enabled;
+    
+    // 0 picks a free port
+    @Value("${catalog.port}")
+    private int port;
+    
+    // 0 means one event loop per CPU
+    @Value("${catalog.event-loop-threads}")
+    private int eventLoopThreads;
+    
+    private LoopResources loops;
+    
+    private volatile DisposableServer server;
+    
+    @Override
+    public void start() {
+        if (!enabled) {
+            return;
+        }
+        int threads = eventLoopThreads > 0 ? eventLoopThreads : Runtime.getRuntime().availableProcessors();
+        loops = LoopResources.create("catalog", threads, true);
+        HandlerStrategies strategies = HandlerStrategies.builder()
+                .codecs(codecs -> codecs.defaultCodecs().jackson2JsonEncoder(
+                        new Jackson2JsonEncoder(objectMapper, MediaType.APPLICATION_JSON)))
+                .webFilter(corsFilter())
+                .build();
+        ReactorHttpHandlerAdapter adapter = new ReactorHttpHandlerAdapter(
+                RouterFunctions.toHttpHandler(routes(), strategies));
+        server = HttpServer.create()
+                .port(port)
+                .runOn(loops)
+                .handle(adapter)
+                .bindNow();
+        logger.info("Public catalog listening on port {} with {} event loop threads", server.port(), threads);
+    }
+    
+    @Override
+    public void stop() {
+        if (server != null) {
+            server.disposeNow();
+            server = null;
+        }
+        if (loops != null) {
+            loops.disposeLater().block();
+            loops = null;
+        }
+    }
+    
+    @Override
+    public boolean isRunning() {
+        return server != null;
+    }
+    
+    // The bound port, which differs from catalog.port when that is 0
+    public int getPort() {
+        return server != null ? server.port() : -1;
+    }
+    
+    // Same paths as the public part of the servlet API, so clients only switch the port
+    private RouterFunction<ServerResponse> routes() {
+        return RouterFunctions.route()
+                .path("/api/events/public", builder -> builder
+                        .GET("/all", handler::getAllEvents)
+                        .GET("/upcoming", handler::getUpcomingEvents)
+                        .GET("/open-registration", handler::getEventsWithOpenRegistration)
+                        .GET("/category/{category}", handler::getEventsByCategory)
+                        .GET("/search", handler::searchEvents)
+                        .GET("/range", handler::getEventsInRange)
+                        .GET("/suggest", handler::suggestEvents)
+                        .GET("/{eventId}", handler::getEvent))
+                .onError(RejectedExecutionException.class, handler::busy)
+                .onError(RuntimeException.class, handler::badRequest)
+                .build();
+    }
+    
+    // The same policy as the controllers' @CrossOrigin(origins = "*"), preflight requests included
+    private static CorsWebFilter corsFilter() {
+        CorsConfiguration config = new CorsConfiguration();
+        config.addAllowedOrigin("*");
+        config.addAllowedHeader("*");
+        config.addAllowedMethod(HttpMethod.GET);
+        config.addAllowedMethod(HttpMethod.HEAD);
+        config.setMaxAge(1800L);
+        UrlBasedCorsConfigurationSource source = new UrlBasedCorsConfigurationSource();
+        source.registerCorsConfiguration("/**", config);
+        return new CorsWebFilter(source);
+    }
+}
@@ -6,12 +6,15 @@ import com.campusconnect.repository.EventRepository;
 import com.campusconnect.repository.UserRepository;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.CommandLineRunner;
+import org.springframework.context.annotation.Profile;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Component;
 
 import java.time.LocalDateTime;
 
+// The synthetic-data profile seeds a large generated dataset instead, see SyntheticDataGenerator
 @Component
+@Profile("!synthetic-data")
 public class DataInitializer implements CommandLineRunner {
     
     @Autowired
@@ -83,6 +86,7 @@ public class DataInitializer implements CommandLineRunner {
         User admin = userRepository.findByUsername("admin").get();
         User student1 = userRepository.findByUsername("john.doe").get();
         User student2 = userRepository.findByUsername("jane.smith").get();
+        User student3 = userRepository.findByUsername("mike.johnson").get();
         
         // Create sample events
         Event event1 = new Event();
@@ -0,0 +1,368 @@
+package com.campusconnect.config;
+
+import com.campusconnect.entity.Event;
+import com.campusconnect.entity.User;
+import jakarta.annotation.PostConstruct;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.CommandLineRunner;
+import org.springframework.context.annotation.Profile;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.stereotype.Component;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.SplittableRandom;
+
+/**
+ * Seeds a large, realistic dataset in place of DataInitializer when the synthetic-data profile
+ * is active. Sizes and the random seed come from application-synthetic-data.properties.
+ *
+ * Rows go in through plain JDBC batches on one connection, committed per batch. User ids come
+ * back as generated keys; event ids are assigned here and the event sequence moved past them.
+ * Every student shares one precomputed BCrypt hash of "student123", so seeding cost does not
+ * scale with hashing.
+ *
+ * Distributions: departments and categories are weighted, event dates spread from two months
+ * back to six months ahead with deadlines one to fourteen days before, and registrations follow
+ * a Zipf curve over events, capped by each event's capacity, so a few events are very popular.
+ */
+@Component
+@Profile("synthetic-data")
+public class SyntheticDataGenerator implements CommandLineRunner {
+    
+    private static final Logger logger = LoggerFactory.getLogger(SyntheticDataGenerator.class);
+    
+    private static final String INSERT_USER = "INSERT INTO users (username, email, password, first_name, last_name, role, " +
+            "student_id, department, enabled, token_version) VALUES (?, ?, ?, ?, ?, ?, ?, ?, TRUE, 0)";
+    
+    private static final String INSERT_EVENT = "INSERT INTO events (title, description, location, event_date_time, " +
+            "registration_deadline, max_participants, category, organizer, created_by, created_at, updated_at, is_active, " +
+            "queued_admission, participant_count, version, id) VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, FALSE, ?, 0, ?)";
+    
+    private static final String INSERT_PARTICIPANT = "INSERT INTO event_participants (event_id, user_id) VALUES (?, ?)";
+    
+    private static final List<Weighted> DEPARTMENTS = List.of(
+            new Weighted("Computer Science", 18), new Weighted("Business", 16), new Weighted("Engineering", 15),
+            new Weighted("Medicine", 9), new Weighted("Law", 7), new Weighted("Psychology", 8),
+            new Weighted("Economics", 8), new Weighted("Biology", 7), new Weighted("Fine Arts", 5),
+            new Weighted("History", 4), new Weighted("Physics", 3));
+    
+    private static final List<Weighted> CATEGORIES = List.of(
+            new Weighted("Academic", 30), new Weighted("Social", 22), new Weighted("Sports", 15),
+            new Weighted("Technology", 12), new Weighted("Career", 10), new Weighted("Cultural", 8),
+            new Weighted("Arts", 3));
+    
+    private static final String[] FIRST_NAMES = {"James", "Mary", "John", "Patricia", "Robert", "Jennifer", "Michael",
+            "Linda", "David", "Elizabeth", "Wei", "Aisha", "Carlos", "Priya", "Yuki", "Omar", "Sofia", "Lucas", "Amara", "Noah"};
+    
+    private static final String[] LAST_NAMES = {"Smith", "Johnson", "Williams", "Brown", "Jones", "Garcia", "Miller",
+            "Davis", "Martinez", "Chen", "Kim", "Patel", "Nguyen", "Okafor", "Silva", "Müller", "Rossi", "Haddad", "Cohen", "Ivanova"};
+    
+    private static final String[] LOCATIONS = {"Main Campus Auditorium", "University Sports Complex", "Student Union Hall",
+            "Library Conference Room", "Engineering Building Lab 3", "Business School Atrium", "Arts Centre Theatre",
+            "Medical Campus Lecture Hall", "Outdoor Quad", "Online"};
+    
+    private static final String[] TOPICS = {"Meetup", "Workshop", "Seminar", "Tournament", "Fair", "Social Night",
+            "Hackathon", "Guest Lecture", "Showcase", "Networking Evening", "Study Group", "Festival"};
+    
+    @Autowired
+    private DataSource dataSource;
+    
+    @Autowired
+    private PasswordEncoder passwordEncoder;
+    
+    @Value("${synthetic-data.users}")
+    private int userCount;
+    
+    @Value("${synthetic-data.admins}")
+    private int adminCount;
+    
+    @Value("${synthetic-data.events}")
+    private int eventCount;
+    
+    @Value("${synthetic-data.registrations}")
+    private long registrationCount;
+    
+    @Value("${synthetic-data.popularity-skew}")
+    private double popularitySkew;
+    
+    @Value("${synthetic-data.batch-size}")
+    private int batchSize;
+    
+    @Value("${synthetic-data.seed}")
+    private long seed;
+    
+    // Fails startup before anything is inserted; events need an admin to be created by
+    @PostConstruct
+    void validate() {
+        if (adminCount < 1 || eventCount < 1 || batchSize < 1) {
+            throw new IllegalStateException("synthetic-data.admins, synthetic-data.events and synthetic-data.batch-size "
+                    + "must be at least 1");
+        }
+        if (userCount < 0 || registrationCount < 0) {
+            throw new IllegalStateException("synthetic-data.users and synthetic-data.registrations must not be negative");
+        }
+    }
+    
+    @Override
+    public void run(String... args) throws SQLException {
+        SplittableRandom random = new SplittableRandom(seed);
+        long started = System.nanoTime();
+        
+        try (Connection connection = dataSource.getConnection()) {
+            connection.setAutoCommit(false);
+            long[] adminIds = insertUsers(connection, random, User.Role.ADMIN, adminCount);
+            long[] studentIds = insertUsers(connection, random, User.Role.STUDENT, userCount);
+            
+            EventPlan[] plans = planEvents(random, studentIds.length);
+            long[] eventIds = insertEvents(connection, random, plans, adminIds);
+            long registrations = insertRegistrations(connection, random, plans, eventIds, studentIds);
+            connection.setAutoCommit(true);
+            
+            logger.info("Synthetic data seeded in {} ms: {} users, {} events, {} registrations",
+                    elapsedMillis(started), adminIds.length + studentIds.length, eventIds.length, registrations);
+        }
+    }
+    
+    // The admin is "admin" / "admin123" as with DataInitializer; students are studentN / "student123"
+    private long[] insertUsers(Connection connection, SplittableRandom random, User.Role role, int count) throws SQLException {
+        long started = System.nanoTime();
+        boolean admin = role == User.Role.ADMIN;
+        String passwordHash = passwordEncoder.encode(admin ? "admin123" : "student123");
+        String prefix = admin ? "admin" : "student";
+        
+        long[] ids = new long[count];
+        try (PreparedStatement insert = connection.prepareStatement(INSERT_USER, Statement.RETURN_GENERATED_KEYS)) {
+            int filled = 0;
+            for (int i = 0; i < count; i++) {
+                String username = admin && i == 0 ? "admin" : prefix + i;
+                insert.setString(1, username);
+                insert.setString(2, username + (admin ? "@campus.edu" : "@student.edu"));
+                insert.setString(3, passwordHash);
+                insert.setString(4, FIRST_NAMES[random.nextInt(FIRST_NAMES.length)]);
+                insert.setString(5, LAST_NAMES[random.nextInt(LAST_NAMES.length)]);
+                insert.setString(6, role.name());
+                insert.setString(7, admin ? null : String.format("STU%07d", i));
+                insert.setString(8, admin ? "Administration" : pick(DEPARTMENTS, random));
+                insert.addBatch();
+                if ((i + 1) % batchSize == 0 || i == count - 1) {
+                    filled = executeBatch(connection, insert, ids, filled);
+                }
+            }
+        }
+        logRate(admin ? "admins" : "students", count, started);
+        return ids;
+    }
+    
+    private EventPlan[] planEvents(SplittableRandom random, int students) {
+        EventPlan[] plans = new EventPlan[eventCount];
+        LocalDateTime now = LocalDateTime.now().withSecond(0).withNano(0);
+        for (int i = 0; i < eventCount; i++) {
+            LocalDateTime eventDateTime = now.plusMinutes(random.nextLong(-60L * 24 * 60, 180L * 24 * 60));
+            LocalDateTime deadline = eventDateTime.minusHours(random.nextInt(24, 14 * 24 + 1));
+            // One event in ten has no seat limit; the rest range from seminar rooms to stadiums
+            int maxParticipants = random.nextInt(10) == 0 ? 0 : (int) Math.round(20 * Math.pow(100, random.nextDouble()));
+            plans[i] = new EventPlan(eventDateTime, deadline, maxParticipants, pick(CATEGORIES, random),
+                    random.nextInt(100) < 95);
+        }
+        
+        // Zipf over a random ranking: the event of rank r gets a share proportional to 1 / r^skew.
+        // Shares beyond an event's capacity are handed on to the events that still have room
+        int[] ranking = shuffledIndexes(eventCount, random);
+        double[] weights = new double[eventCount];
+        long[] limits = new long[eventCount];
+        for (int rank = 0; rank < eventCount; rank++) {
+            EventPlan plan = plans[ranking[rank]];
+            weights[rank] = 1 / Math.pow(rank + 1, popularitySkew);
+            limits[rank] = plan.maxParticipants > 0 ? Math.min(plan.maxParticipants, students) : students;
+        }
+        boolean[] full = new boolean[eventCount];
+        long remaining = registrationCount;
+        boolean filledMore = true;
+        while (filledMore && remaining > 0) {
+            filledMore = false;
+            double openWeight = 0;
+            for (int rank = 0; rank < eventCount; rank++) {
+                openWeight += full[rank] ? 0 : weights[rank];
+            }
+            for (int rank = 0; rank < eventCount && openWeight > 0; rank++) {
+                if (!full[rank] && remaining * weights[rank] / openWeight >= limits[rank]) {
+                    full[rank] = true;
+                    filledMore = true;
+                    plans[ranking[rank]].participants = (int) limits[rank];
+                    remaining -= limits[rank];
+                    openWeight -= weights[rank];
+                }
+            }
+            if (!filledMore) {
+                for (int rank = 0; rank < eventCount; rank++) {
+                    if (!full[rank]) {
+                        plans[ranking[rank]].participants = (int) Math.round(remaining * weights[rank] / openWeight);
+                    }
+                }
+            }
+        }
+        return plans;
+    }
+    
+    private long[] insertEvents(Connection connection, SplittableRandom random, EventPlan[] plans,
+                                long[] adminIds) throws SQLException {
+        long started = System.nanoTime();
+        Timestamp createdAt = Timestamp.valueOf(LocalDateTime.now());
+        long[] ids = new long[plans.length];
+        try (PreparedStatement insert = connection.prepareStatement(INSERT_EVENT)) {
+            for (int i = 0; i < plans.length; i++) {
+                EventPlan plan = plans[i];
+                ids[i] = i + 1;
+                String topic = TOPICS[random.nextInt(TOPICS.length)];
+                insert.setString(1, plan.category + " " + topic + " #" + (i + 1));
+                insert.setString(2, "A " + plan.category.toLowerCase() + " " + topic.toLowerCase()
+                        + " open to all students. Bring your friends and your questions.");
+                insert.setString(3, LOCATIONS[random.nextInt(LOCATIONS.length)]);
+                insert.setTimestamp(4, Timestamp.valueOf(plan.eventDateTime));
+                insert.setTimestamp(5, Timestamp.valueOf(plan.registrationDeadline));
+                insert.setInt(6, plan.maxParticipants);
+                insert.setString(7, plan.category);
+                insert.setString(8, plan.category + " Society");
+                insert.setLong(9, adminIds[random.nextInt(adminIds.length)]);
+                insert.setTimestamp(10, createdAt);
+                insert.setTimestamp(11, createdAt);
+                insert.setBoolean(12, plan.active);
+                insert.setInt(13, plan.participants);
+                insert.setLong(14, ids[i]);
+                insert.addBatch();
+                if ((i + 1) % batchSize == 0 || i == plans.length - 1) {
+                    insert.executeBatch();
+                    connection.commit();
+                }
+            }
+        }
+        
+        // Event ids come from a pooled sequence: Hibernate's next block must start after the ids used here
+        try (Statement restart = connection.createStatement()) {
+            restart.execute("ALTER SEQUENCE events_seq RESTART WITH " + (plans.length + Event.ID_ALLOCATION_SIZE));
+        }
+        connection.commit();
+        logRate("events", plans.length, started);
+        return ids;
+    }
+    
+    // Each event draws its participants without replacement, so (event, user) pairs never repeat
+    private long insertRegistrations(Connection connection, SplittableRandom random, EventPlan[] plans,
+                                     long[] eventIds, long[] studentIds) throws SQLException {
+        long started = System.nanoTime();
+        long inserted = 0;
+        try (PreparedStatement insert = connection.prepareStatement(INSERT_PARTICIPANT)) {
+            int pending = 0;
+            for (int i = 0; i < plans.length; i++) {
+                for (int student : sampleDistinct(plans[i].participants, studentIds.length, random)) {
+                    insert.setLong(1, eventIds[i]);
+                    insert.setLong(2, studentIds[student]);
+                    insert.addBatch();
+                    if (++pending == batchSize) {
+                        insert.executeBatch();
+                        connection.commit();
+                        inserted += pending;
+                        pending = 0;
+                    }
+                }
+            }
+            if (pending > 0) {
+                insert.executeBatch();
+                connection.commit();
+                inserted += pending;
+            }
+        }
+        logRate("registrations", inserted, started);
+        return inserted;
+    }
+    
+    private static int executeBatch(Connection connection, PreparedStatement insert, long[] ids, int filled)
+            throws SQLException {
+        insert.executeBatch();
+        try (ResultSet keys = insert.getGeneratedKeys()) {
+            while (keys.next()) {
+                ids[filled++] = keys.getLong(1);
+            }
+        }
+        connection.commit();
+        return filled;
+    }
+    
+    // Floyd's algorithm: k distinct values from [0, n) in O(k) time and space
+    private static Set<Integer> sampleDistinct(int k, int n, SplittableRandom random) {
+        Set<Integer> sample = new HashSet<>(k * 2);
+        for (int j = n - k; j < n; j++) {
+            int candidate = random.nextInt(j + 1);
+            sample.add(sample.contains(candidate) ? j : candidate);
+        }
+        return sample;
+    }
+    
+    private static int[] shuffledIndexes(int n, SplittableRandom random) {
+        int[] indexes = new int[n];
+        for (int i = 0; i < n; i++) {
+            indexes[i] = i;
+        }
+        for (int i = n - 1; i > 0; i--) {
+            int j = random.nextInt(i + 1);
+            int swap = indexes[i];
+            indexes[i] = indexes[j];
+            indexes[j] = swap;
+        }
+        return indexes;
+    }
+    
+    private static String pick(List<Weighted> options, SplittableRandom random) {
+        int total = options.stream().mapToInt(Weighted::weight).sum();
+        int roll = random.nextInt(total);
+        for (Weighted option : options) {
+            roll -= option.weight();
+            if (roll < 0) {
+                return option.value();
+            }
+        }
+        throw new IllegalStateException("Weights do not add up");
+    }
+    
+    private static void logRate(String what, long rows, long started) {
+        long millis = Math.max(1, elapsedMillis(started));
+        logger.info("Seeded {} {} in {} ms ({} rows/s)", rows, what, millis, rows * 1000 / millis);
+    }
+    
+    private static long elapsedMillis(long started) {
+        return (System.nanoTime() - started) / 1_000_000;
+    }
+    
+    private record Weighted(String value, int weight) {}
+    
+    private static class EventPlan {
+        private final LocalDateTime eventDateTime;
+        private final LocalDateTime registrationDeadline;
+        private final int maxParticipants;
+        private final String category;
+        private final boolean active;
+        private int participants;
+        
+        EventPlan(LocalDateTime eventDateTime, LocalDateTime registrationDeadline, int maxParticipants,
+                  String category, boolean active) {
+            this.eventDateTime = eventDateTime;
+            this.registrationDeadline = registrationDeadline;
+            this.maxParticipants = maxParticipants;
+            this.category = category;
+            this.active = active;
+        }
+    }
+}
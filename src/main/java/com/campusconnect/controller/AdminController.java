@@ -0,0 +1,44 @@
+package com.campusconnect.controller;
+
+import com.campusconnect.dto.CacheStatsDto;
+import com.campusconnect.dto.ExecutorStatsDto;
+import com.campusconnect.service.CacheStatisticsService;
+import com.campusconnect.service.DatabaseExecutor;
+import com.campusconnect.service.PasswordHashingService;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.ArrayList;
+import java.util.List;
+
+@RestController
+@RequestMapping("/api/admin")
+@CrossOrigin(origins = "*")
+public class AdminController {
+    
+    @Autowired
+    private CacheStatisticsService cacheStatisticsService;
+    
+    @Autowired
+    private PasswordHashingService passwordHashingService;
+    
+    @Autowired
+    private DatabaseExecutor databaseExecutor;
+    
+    @GetMapping("/caches")
+    public ResponseEntity<List<CacheStatsDto>> getCacheStats() {
+        List<CacheStatsDto> stats = cacheStatisticsService.getCacheStats();
+        return ResponseEntity.ok(stats);
+    }
+    
+    @GetMapping("/executors")
+    public ResponseEntity<List<ExecutorStatsDto>> getExecutorStats() {
+        List<ExecutorStatsDto> stats = new ArrayList<>();
+        stats.add(passwordHashingService.getStats());
+        if (databaseExecutor.isEnabled()) {
+            stats.add(databaseExecutor.getStats());
+        }
+        return ResponseEntity.ok(stats);
+    }
+}
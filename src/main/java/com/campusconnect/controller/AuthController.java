@@ -8,20 +8,15 @@ import com.campusconnect.service.UserService;
 import jakarta.validation.Valid;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.http.ResponseEntity;
-import org.springframework.security.authentication.AuthenticationManager;
-import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
-import org.springframework.security.core.Authentication;
-import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.web.bind.annotation.*;
 
+import java.util.concurrent.CompletableFuture;
+
 @RestController
 @RequestMapping("/api/auth")
 @CrossOrigin(origins = "*")
 public class AuthController {
     
-    @Autowired
-    private AuthenticationManager authenticationManager;
-    
     @Autowired
     private JwtService jwtService;
     
@@ -29,18 +24,13 @@ public class AuthController {
     private UserService userService;
     
     @PostMapping("/login")
-    public ResponseEntity<LoginResponse> login(@Valid @RequestBody LoginRequest loginRequest) {
-        Authentication authentication = authenticationManager.authenticate(
-                new UsernamePasswordAuthenticationToken(loginRequest.getUsername(), loginRequest.getPassword())
-        );
-        
-        UserDetails userDetails = (UserDetails) authentication.getPrincipal();
-        String token = jwtService.generateToken(userDetails);
-        
-        UserDto user = userService.getUserByUsername(userDetails.getUsername());
-        LoginResponse response = new LoginResponse(token, userService.findByUsername(userDetails.getUsername()).get());
-        
-        return ResponseEntity.ok(response);
+    public CompletableFuture<ResponseEntity<LoginResponse>> login(@Valid @RequestBody LoginRequest loginRequest) {
+        // The request thread is released while the password is checked on the hashing pool
+        return userService.authenticate(loginRequest.getUsername(), loginRequest.getPassword())
+                .thenApply(user -> {
+                    String token = jwtService.generateToken(user);
+                    return ResponseEntity.ok(new LoginResponse(token, user));
+                });
     }
     
     @PostMapping("/register")
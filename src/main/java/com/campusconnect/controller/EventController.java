@@ -1,16 +1,43 @@
 package com.campusconnect.controller;
 
+import com.campusconnect.dto.BatchResultDto;
+import com.campusconnect.dto.BulkEnrollmentRequest;
+import com.campusconnect.dto.BulkEnrollmentResultDto;
+import com.campusconnect.dto.CursorPage;
+import com.campusconnect.dto.EventDeactivationRequest;
 import com.campusconnect.dto.EventDto;
+import com.campusconnect.dto.EventSuggestionDto;
+import com.campusconnect.dto.EventSummaryDto;
+import com.campusconnect.metrics.RegistrationMetrics;
+import com.campusconnect.search.EventTimeIndex;
+import com.campusconnect.security.AuthenticatedPrincipal;
+import com.campusconnect.service.DatabaseExecutor;
 import com.campusconnect.service.EventService;
+import com.campusconnect.service.RegistrationAdmissionEngine;
+import jakarta.servlet.http.HttpServletResponse;
 import jakarta.validation.Valid;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.NativeWebRequest;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.context.request.async.DeferredResult;
 
+import java.time.LocalDateTime;
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.function.Supplier;
 
+// Handlers that touch the database run on the DatabaseExecutor (inline unless it is enabled);
+// the public listings and suggestions are served from memory on the request thread
 @RestController
 @RequestMapping("/api/events")
 @CrossOrigin(origins = "*")
@@ -19,102 +46,231 @@ public class EventController {
     @Autowired
     private EventService eventService;
     
+    @Autowired
+    private RegistrationAdmissionEngine admissionEngine;
+    
+    @Autowired
+    private DatabaseExecutor databaseExecutor;
+    
+    @Autowired
+    private RegistrationMetrics registrationMetrics;
+    
+    @Value("${admission.timeout-ms}")
+    private long admissionTimeoutMs;
+    
     // Public endpoints
     @GetMapping("/public/all")
-    public ResponseEntity<List<EventDto>> getAllPublicEvents() {
-        List<EventDto> events = eventService.getAllActiveEvents();
-        return ResponseEntity.ok(events);
+    public ResponseEntity<CursorPage<EventSummaryDto>> getAllPublicEvents(@RequestParam(required = false) String cursor,
+                                                                          @RequestParam(defaultValue = "20") int size,
+                                                                          WebRequest request) {
+        return conditional(request, eventService.getPublicListingsETag(), CacheControl.noCache(),
+                () -> eventService.getAllActiveEvents(cursor, size));
     }
     
     @GetMapping("/public/upcoming")
-    public ResponseEntity<List<EventDto>> getUpcomingEvents() {
-        List<EventDto> events = eventService.getUpcomingEvents();
-        return ResponseEntity.ok(events);
+    public ResponseEntity<CursorPage<EventSummaryDto>> getUpcomingEvents(@RequestParam(required = false) String cursor,
+                                                                         @RequestParam(defaultValue = "20") int size,
+                                                                         WebRequest request) {
+        return conditional(request, eventService.getPublicListingsETag(), CacheControl.noCache(),
+                () -> eventService.getUpcomingEvents(cursor, size));
     }
     
     @GetMapping("/public/open-registration")
-    public ResponseEntity<List<EventDto>> getEventsWithOpenRegistration() {
-        List<EventDto> events = eventService.getEventsWithOpenRegistration();
-        return ResponseEntity.ok(events);
+    public ResponseEntity<CursorPage<EventSummaryDto>> getEventsWithOpenRegistration(@RequestParam(required = false) String cursor,
+                                                                                     @RequestParam(defaultValue = "20") int size,
+                                                                                     WebRequest request) {
+        return conditional(request, eventService.getPublicListingsETag(), CacheControl.noCache(),
+                () -> eventService.getEventsWithOpenRegistration(cursor, size));
     }
     
     @GetMapping("/public/category/{category}")
-    public ResponseEntity<List<EventDto>> getEventsByCategory(@PathVariable String category) {
-        List<EventDto> events = eventService.getEventsByCategory(category);
-        return ResponseEntity.ok(events);
+    public CompletableFuture<ResponseEntity<CursorPage<EventSummaryDto>>> getEventsByCategory(@PathVariable String category,
+                                                                                              @RequestParam(required = false) String cursor,
+                                                                                              @RequestParam(defaultValue = "20") int size) {
+        return databaseExecutor.submit(() -> ResponseEntity.ok(eventService.getEventsByCategory(category, cursor, size)));
     }
     
     @GetMapping("/public/search")
-    public ResponseEntity<List<EventDto>> searchEvents(@RequestParam String keyword) {
-        List<EventDto> events = eventService.searchEvents(keyword);
-        return ResponseEntity.ok(events);
+    public CompletableFuture<ResponseEntity<CursorPage<EventSummaryDto>>> searchEvents(@RequestParam String keyword,
+                                                                                       @RequestParam(required = false) String cursor,
+                                                                                       @RequestParam(defaultValue = "20") int size) {
+        return databaseExecutor.submit(() -> ResponseEntity.ok(eventService.searchEvents(keyword, cursor, size)));
+    }
+    
+    @GetMapping("/public/range")
+    public CompletableFuture<ResponseEntity<CursorPage<EventSummaryDto>>> getEventsInRange(
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime from,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime to,
+            @RequestParam(defaultValue = "start") String by,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") int size) {
+        EventTimeIndex.Field field = EventTimeIndex.Field.fromParam(by);
+        return databaseExecutor.submit(() -> ResponseEntity.ok(eventService.getEventsInRange(field, from, to, cursor, size)));
+    }
+    
+    @GetMapping("/public/suggest")
+    public ResponseEntity<List<EventSuggestionDto>> suggestEvents(@RequestParam String prefix,
+                                                                  @RequestParam(defaultValue = "10") int limit) {
+        List<EventSuggestionDto> suggestions = eventService.suggestEvents(prefix, limit);
+        return ResponseEntity.ok(suggestions);
     }
     
     @GetMapping("/public/{eventId}")
-    public ResponseEntity<EventDto> getEventById(@PathVariable Long eventId) {
-        EventDto event = eventService.getEventById(eventId);
-        return ResponseEntity.ok(event);
+    public CompletableFuture<ResponseEntity<EventDto>> getEventById(@PathVariable Long eventId, NativeWebRequest request) {
+        return conditionalOnDatabase(request, () -> eventService.getEventETag(eventId), CacheControl.noCache(),
+                () -> eventService.getEventById(eventId));
     }
     
     // Protected endpoints
     @GetMapping("/my-events")
-    public ResponseEntity<List<EventDto>> getMyEvents() {
-        String username = getCurrentUsername();
-        List<EventDto> events = eventService.getEventsByCreator(username);
-        return ResponseEntity.ok(events);
+    public CompletableFuture<ResponseEntity<CursorPage<EventSummaryDto>>> getMyEvents(@RequestParam(required = false) String cursor,
+                                                                                      @RequestParam(defaultValue = "20") int size,
+                                                                                      NativeWebRequest request) {
+        Long userId = getCurrentUserId();
+        return conditionalOnDatabase(request, () -> eventService.getCreatorEventsETag(userId), CacheControl.noCache().cachePrivate(),
+                () -> eventService.getEventsByCreator(userId, cursor, size));
     }
     
     @GetMapping("/my-participations")
-    public ResponseEntity<List<EventDto>> getMyParticipations() {
-        String username = getCurrentUsername();
-        List<EventDto> events = eventService.getEventsByParticipant(username);
-        return ResponseEntity.ok(events);
+    public CompletableFuture<ResponseEntity<CursorPage<EventSummaryDto>>> getMyParticipations(@RequestParam(required = false) String cursor,
+                                                                                              @RequestParam(defaultValue = "20") int size,
+                                                                                              NativeWebRequest request) {
+        Long userId = getCurrentUserId();
+        return conditionalOnDatabase(request, () -> eventService.getParticipationsETag(userId), CacheControl.noCache().cachePrivate(),
+                () -> eventService.getEventsByParticipant(userId, cursor, size));
     }
     
     @PostMapping
-    public ResponseEntity<EventDto> createEvent(@Valid @RequestBody EventDto eventDto) {
-        String username = getCurrentUsername();
-        EventDto createdEvent = eventService.createEvent(eventDto, username);
-        return ResponseEntity.ok(createdEvent);
+    public CompletableFuture<ResponseEntity<EventDto>> createEvent(@Valid @RequestBody EventDto eventDto) {
+        Long userId = getCurrentUserId();
+        return databaseExecutor.submit(() -> ResponseEntity.ok(eventService.createEvent(eventDto, userId)));
     }
     
     @PutMapping("/{eventId}")
-    public ResponseEntity<EventDto> updateEvent(@PathVariable Long eventId, @Valid @RequestBody EventDto eventDto) {
-        String username = getCurrentUsername();
-        EventDto updatedEvent = eventService.updateEvent(eventId, eventDto, username);
-        return ResponseEntity.ok(updatedEvent);
+    public CompletableFuture<ResponseEntity<EventDto>> updateEvent(@PathVariable Long eventId, @Valid @RequestBody EventDto eventDto) {
+        Long userId = getCurrentUserId();
+        return databaseExecutor.submit(() -> ResponseEntity.ok(eventService.updateEvent(eventId, eventDto, userId)));
     }
     
     @DeleteMapping("/{eventId}")
-    public ResponseEntity<Void> deleteEvent(@PathVariable Long eventId) {
-        String username = getCurrentUsername();
-        eventService.deleteEvent(eventId, username);
-        return ResponseEntity.noContent().build();
+    public CompletableFuture<ResponseEntity<Void>> deleteEvent(@PathVariable Long eventId) {
+        Long userId = getCurrentUserId();
+        return databaseExecutor.submit(() -> {
+            eventService.deleteEvent(eventId, userId);
+            return ResponseEntity.noContent().build();
+        });
     }
     
     @PutMapping("/{eventId}/deactivate")
-    public ResponseEntity<EventDto> deactivateEvent(@PathVariable Long eventId) {
-        String username = getCurrentUsername();
-        EventDto deactivatedEvent = eventService.deactivateEvent(eventId, username);
-        return ResponseEntity.ok(deactivatedEvent);
+    public CompletableFuture<ResponseEntity<EventDto>> deactivateEvent(@PathVariable Long eventId) {
+        Long userId = getCurrentUserId();
+        return databaseExecutor.submit(() -> ResponseEntity.ok(eventService.deactivateEvent(eventId, userId)));
+    }
+    
+    // Batch endpoints answer 200 with a result per item; items that fail are skipped, not fatal
+    @PostMapping("/batch")
+    public CompletableFuture<ResponseEntity<BatchResultDto>> createEvents(@RequestBody List<EventDto> eventDtos) {
+        Long userId = getCurrentUserId();
+        return databaseExecutor.submit(() -> ResponseEntity.ok(eventService.createEvents(eventDtos, userId)));
+    }
+    
+    @PutMapping("/batch")
+    public CompletableFuture<ResponseEntity<BatchResultDto>> updateEvents(@RequestBody List<EventDto> eventDtos) {
+        Long userId = getCurrentUserId();
+        return databaseExecutor.submit(() -> ResponseEntity.ok(eventService.updateEvents(eventDtos, userId)));
+    }
+    
+    @PutMapping("/batch/deactivate")
+    public CompletableFuture<ResponseEntity<BatchResultDto>> deactivateEvents(@RequestBody EventDeactivationRequest request) {
+        Long userId = getCurrentUserId();
+        return databaseExecutor.submit(() -> ResponseEntity.ok(eventService.deactivateEvents(request, userId)));
+    }
+    
+    @PostMapping("/{eventId}/participants:bulk")
+    public CompletableFuture<ResponseEntity<BulkEnrollmentResultDto>> enrollParticipants(@PathVariable Long eventId,
+                                                                                         @RequestBody BulkEnrollmentRequest request) {
+        Long userId = getCurrentUserId();
+        return databaseExecutor.submit(() -> ResponseEntity.ok(eventService.enrollParticipants(eventId, request, userId)));
     }
     
     @PostMapping("/{eventId}/join")
-    public ResponseEntity<EventDto> joinEvent(@PathVariable Long eventId) {
-        String username = getCurrentUsername();
-        EventDto event = eventService.joinEvent(eventId, username);
-        return ResponseEntity.ok(event);
+    public DeferredResult<ResponseEntity<EventSummaryDto>> joinEvent(@PathVariable Long eventId) {
+        Long userId = getCurrentUserId();
+        DeferredResult<ResponseEntity<EventSummaryDto>> result = new DeferredResult<>(admissionTimeoutMs);
+        
+        // Queued-admission events answer once their batch commits, without holding a request thread
+        CompletableFuture<EventSummaryDto> joined;
+        if (admissionEngine.isQueued(eventId)) {
+            result.onTimeout(() -> result.setErrorResult(
+                    new RuntimeException("Registration is still being processed, check your participations shortly")));
+            joined = registrationMetrics.timeJoin(() -> admissionEngine.join(eventId, userId));
+        } else {
+            joined = registrationMetrics.timeJoin(() -> databaseExecutor.submit(() -> eventService.joinEvent(eventId, userId)));
+        }
+        joined.whenComplete((event, ex) -> {
+            if (ex != null) {
+                result.setErrorResult(ex instanceof CompletionException && ex.getCause() != null ? ex.getCause() : ex);
+            } else {
+                result.setResult(ResponseEntity.ok(event));
+            }
+        });
+        return result;
     }
     
     @PostMapping("/{eventId}/leave")
-    public ResponseEntity<EventDto> leaveEvent(@PathVariable Long eventId) {
-        String username = getCurrentUsername();
-        EventDto event = eventService.leaveEvent(eventId, username);
-        return ResponseEntity.ok(event);
+    public CompletableFuture<ResponseEntity<EventSummaryDto>> leaveEvent(@PathVariable Long eventId) {
+        Long userId = getCurrentUserId();
+        return registrationMetrics.timeLeave(
+                () -> databaseExecutor.submit(() -> ResponseEntity.ok(eventService.leaveEvent(eventId, userId))));
+    }
+    
+    // Answers a matching If-None-Match with 304 (checkNotModified also sets the ETag header) before
+    // the body is loaded; clients must revalidate every time, so a change is never served stale
+    private static <T> ResponseEntity<T> conditional(WebRequest request, String etag, CacheControl cacheControl,
+                                                     Supplier<T> body) {
+        if (request.checkNotModified(etag)) {
+            return null;
+        }
+        return ResponseEntity.ok().cacheControl(cacheControl).body(body.get());
+    }
+    
+    // As conditional, for ETags that need a database lookup: the lookup and the body both run on
+    // the database executor, so the request's If-None-Match is compared there instead.
+    // Cache-Control is set before going async; otherwise Spring Security adds its no-store default
+    // when the request thread returns and the response would carry both
+    private <T> CompletableFuture<ResponseEntity<T>> conditionalOnDatabase(NativeWebRequest request, Supplier<String> etag,
+                                                                           CacheControl cacheControl, Supplier<T> body) {
+        String ifNoneMatch = request.getHeader(HttpHeaders.IF_NONE_MATCH);
+        request.getNativeResponse(HttpServletResponse.class).setHeader(HttpHeaders.CACHE_CONTROL, cacheControl.getHeaderValue());
+        return databaseExecutor.submit(() -> {
+            String currentETag = etag.get();
+            if (matchesETag(ifNoneMatch, currentETag)) {
+                return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(currentETag).<T>build();
+            }
+            return ResponseEntity.ok().eTag(currentETag).body(body.get());
+        });
+    }
+    
+    // Weak comparison, as If-None-Match requires: W/ prefixes are ignored and * matches any version
+    private static boolean matchesETag(String ifNoneMatch, String etag) {
+        if (ifNoneMatch == null) {
+            return false;
+        }
+        String quoted = "\"" + etag + "\"";
+        for (String candidate : ifNoneMatch.split(",")) {
+            String tag = candidate.trim();
+            if (tag.startsWith("W/")) {
+                tag = tag.substring(2);
+            }
+            if (tag.equals("*") || tag.equals(quoted)) {
+                return true;
+            }
+        }
+        return false;
     }
     
-    private String getCurrentUsername() {
+    private Long getCurrentUserId() {
         Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
-        return authentication.getName();
+        return ((AuthenticatedPrincipal) authentication.getPrincipal()).getId();
     }
 }
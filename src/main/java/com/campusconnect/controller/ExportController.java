@@ -0,0 +1,93 @@
+package com.campusconnect.controller;
+
+import com.campusconnect.entity.User;
+import com.campusconnect.service.ExportFormat;
+import com.campusconnect.service.ExportService;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.NativeWebRequest;
+import org.springframework.web.context.request.async.AsyncWebRequest;
+import org.springframework.web.context.request.async.CallableProcessingInterceptor;
+import org.springframework.web.context.request.async.WebAsyncUtils;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.time.LocalDateTime;
+import java.util.concurrent.Callable;
+
+// Streaming exports for other campus systems; /api/admin/** is admin-only
+@RestController
+@RequestMapping("/api/admin/exports")
+@CrossOrigin(origins = "*")
+public class ExportController {
+    
+    private static final Object TIMEOUT_INTERCEPTOR_KEY = ExportController.class.getName() + ".timeout";
+    
+    @Autowired
+    private ExportService exportService;
+    
+    @Value("${exports.timeout-ms}")
+    private long timeoutMs;
+    
+    @GetMapping("/events")
+    public ResponseEntity<StreamingResponseBody> exportEvents(@RequestParam(required = false) String category,
+                                                              @RequestParam(defaultValue = "ndjson") String format,
+                                                              NativeWebRequest request) {
+        ExportFormat exportFormat = ExportFormat.fromParam(format);
+        return export(request, "events", exportFormat, out -> exportService.exportEvents(category, exportFormat, out));
+    }
+    
+    @GetMapping("/events/{eventId}/participants")
+    public ResponseEntity<StreamingResponseBody> exportParticipants(@PathVariable Long eventId,
+                                                                    @RequestParam(defaultValue = "ndjson") String format,
+                                                                    NativeWebRequest request) {
+        ExportFormat exportFormat = ExportFormat.fromParam(format);
+        exportService.requireEvent(eventId);
+        return export(request, "event-" + eventId + "-participants", exportFormat,
+                out -> exportService.exportParticipants(eventId, exportFormat, out));
+    }
+    
+    @GetMapping("/registrations")
+    public ResponseEntity<StreamingResponseBody> exportRegistrations(
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime from,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime to,
+            @RequestParam(defaultValue = "ndjson") String format,
+            NativeWebRequest request) {
+        ExportFormat exportFormat = ExportFormat.fromParam(format);
+        exportService.requireRegistrationRange(from, to);
+        return export(request, "registrations", exportFormat,
+                out -> exportService.exportRegistrations(from, to, exportFormat, out));
+    }
+    
+    @GetMapping("/users")
+    public ResponseEntity<StreamingResponseBody> exportUsers(@RequestParam(required = false) User.Role role,
+                                                             @RequestParam(defaultValue = "ndjson") String format,
+                                                             NativeWebRequest request) {
+        ExportFormat exportFormat = ExportFormat.fromParam(format);
+        return export(request, "users", exportFormat, out -> exportService.exportUsers(role, exportFormat, out));
+    }
+    
+    private ResponseEntity<StreamingResponseBody> export(NativeWebRequest request, String fileName, ExportFormat format,
+                                                         StreamingResponseBody body) {
+        // The body is streamed as a Callable, which takes the global async timeout unless it is
+        // replaced on the async request before processing starts
+        WebAsyncUtils.getAsyncManager(request).registerCallableInterceptor(TIMEOUT_INTERCEPTOR_KEY,
+                new CallableProcessingInterceptor() {
+                    @Override
+                    public <T> void beforeConcurrentHandling(NativeWebRequest asyncRequest, Callable<T> task) {
+                        if (asyncRequest instanceof AsyncWebRequest asyncWebRequest) {
+                            asyncWebRequest.setTimeout(timeoutMs);
+                        }
+                    }
+                });
+        return ResponseEntity.ok()
+                .contentType(MediaType.parseMediaType(format.getContentType()))
+                .header(HttpHeaders.CONTENT_DISPOSITION,
+                        "attachment; filename=\"" + fileName + "." + format.getFileExtension() + "\"")
+                .body(body);
+    }
+}
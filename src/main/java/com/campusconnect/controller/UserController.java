@@ -1,7 +1,11 @@
 package com.campusconnect.controller;
 
+import com.campusconnect.dto.CursorPage;
 import com.campusconnect.dto.UserDto;
 import com.campusconnect.entity.User;
+import com.campusconnect.security.AuthenticatedPrincipal;
+import com.campusconnect.service.DatabaseExecutor;
+import com.campusconnect.service.JwtService;
 import com.campusconnect.service.UserService;
 import jakarta.validation.Valid;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -11,68 +15,101 @@ import org.springframework.security.core.Authentication;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.web.bind.annotation.*;
 
-import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Function;
 
 @RestController
 @RequestMapping("/api/users")
-@CrossOrigin(origins = "*")
+@CrossOrigin(origins = "*", exposedHeaders = UserController.REFRESHED_TOKEN_HEADER)
 public class UserController {
     
+    // Carries a new token when an update revoked the caller's own, so the session making the change stays signed in
+    static final String REFRESHED_TOKEN_HEADER = "X-Refreshed-Token";
+    
     @Autowired
     private UserService userService;
     
+    @Autowired
+    private JwtService jwtService;
+    
+    // Runs each handler's service call; inline on the request thread unless enabled
+    @Autowired
+    private DatabaseExecutor databaseExecutor;
+    
     @GetMapping("/profile")
-    public ResponseEntity<UserDto> getMyProfile() {
-        String username = getCurrentUsername();
-        UserDto user = userService.getUserByUsername(username);
-        return ResponseEntity.ok(user);
+    public CompletableFuture<ResponseEntity<UserDto>> getMyProfile() {
+        Long userId = getCurrentUserId();
+        return databaseExecutor.submit(() -> ResponseEntity.ok(userService.getUserById(userId)));
     }
     
     @PutMapping("/profile")
-    public ResponseEntity<UserDto> updateMyProfile(@Valid @RequestBody UserDto userDto) {
-        String username = getCurrentUsername();
-        User currentUser = userService.findByUsername(username).get();
-        UserDto updatedUser = userService.updateUser(currentUser.getId(), userDto);
-        return ResponseEntity.ok(updatedUser);
+    public CompletableFuture<ResponseEntity<UserDto>> updateMyProfile(@Valid @RequestBody UserDto userDto) {
+        return update(getCurrentUserId(), userDto);
     }
     
     @GetMapping("/students")
     @PreAuthorize("hasRole('ADMIN')")
-    public ResponseEntity<List<UserDto>> getAllStudents() {
-        List<UserDto> students = userService.getUsersByRole(User.Role.STUDENT);
-        return ResponseEntity.ok(students);
+    public CompletableFuture<ResponseEntity<CursorPage<UserDto>>> getAllStudents(@RequestParam(required = false) String department,
+                                                                                 @RequestParam(required = false) String cursor,
+                                                                                 @RequestParam(defaultValue = "20") int size) {
+        return databaseExecutor.submit(() -> ResponseEntity.ok(userService.getUsersByRole(User.Role.STUDENT, department, cursor, size)));
     }
     
     @GetMapping("/admins")
     @PreAuthorize("hasRole('ADMIN')")
-    public ResponseEntity<List<UserDto>> getAllAdmins() {
-        List<UserDto> admins = userService.getUsersByRole(User.Role.ADMIN);
-        return ResponseEntity.ok(admins);
+    public CompletableFuture<ResponseEntity<CursorPage<UserDto>>> getAllAdmins(@RequestParam(required = false) String department,
+                                                                               @RequestParam(required = false) String cursor,
+                                                                               @RequestParam(defaultValue = "20") int size) {
+        return databaseExecutor.submit(() -> ResponseEntity.ok(userService.getUsersByRole(User.Role.ADMIN, department, cursor, size)));
+    }
+    
+    @GetMapping("/directory")
+    @PreAuthorize("hasRole('ADMIN')")
+    public CompletableFuture<ResponseEntity<CursorPage<UserDto>>> searchDirectory(@RequestParam String q,
+                                                                                  @RequestParam(required = false) String cursor,
+                                                                                  @RequestParam(defaultValue = "20") int size) {
+        return databaseExecutor.submit(() -> ResponseEntity.ok(userService.searchDirectory(q, cursor, size)));
     }
     
     @GetMapping("/{userId}")
     @PreAuthorize("hasRole('ADMIN')")
-    public ResponseEntity<UserDto> getUserById(@PathVariable Long userId) {
-        UserDto user = userService.getUserById(userId);
-        return ResponseEntity.ok(user);
+    public CompletableFuture<ResponseEntity<UserDto>> getUserById(@PathVariable Long userId) {
+        return databaseExecutor.submit(() -> ResponseEntity.ok(userService.getUserById(userId)));
     }
     
     @PutMapping("/{userId}")
     @PreAuthorize("hasRole('ADMIN')")
-    public ResponseEntity<UserDto> updateUser(@PathVariable Long userId, @Valid @RequestBody UserDto userDto) {
-        UserDto updatedUser = userService.updateUser(userId, userDto);
-        return ResponseEntity.ok(updatedUser);
+    public CompletableFuture<ResponseEntity<UserDto>> updateUser(@PathVariable Long userId, @Valid @RequestBody UserDto userDto) {
+        return update(userId, userDto);
     }
     
     @DeleteMapping("/{userId}")
     @PreAuthorize("hasRole('ADMIN')")
-    public ResponseEntity<Void> deleteUser(@PathVariable Long userId) {
-        userService.deleteUser(userId);
-        return ResponseEntity.noContent().build();
+    public CompletableFuture<ResponseEntity<Void>> deleteUser(@PathVariable Long userId) {
+        return databaseExecutor.submit(() -> {
+            userService.deleteUser(userId);
+            return ResponseEntity.noContent().build();
+        });
+    }
+    
+    // The password is compared and hashed on the hashing pool first, so the update's transaction never waits on BCrypt
+    private CompletableFuture<ResponseEntity<UserDto>> update(Long userId, UserDto userDto) {
+        boolean ownAccount = userId.equals(getCurrentUserId());
+        return databaseExecutor.submit(() -> userService.hashNewPassword(userId, userDto.getPassword()))
+                .thenCompose(Function.identity())
+                .thenCompose(passwordHash -> databaseExecutor.submit(() -> {
+                    UserDto updated = userService.updateUser(userId, userDto, passwordHash);
+                    if (passwordHash == null || !ownAccount) {
+                        return ResponseEntity.ok(updated);
+                    }
+                    // Loaded after the commit, so the token carries the new version
+                    String token = jwtService.generateToken(userService.loadUserByUsername(updated.getUsername()));
+                    return ResponseEntity.ok().header(REFRESHED_TOKEN_HEADER, token).body(updated);
+                }));
     }
     
-    private String getCurrentUsername() {
+    private Long getCurrentUserId() {
         Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
-        return authentication.getName();
+        return ((AuthenticatedPrincipal) authentication.getPrincipal()).getId();
     }
 }
@@ -0,0 +1,106 @@
+package com.campusconnect.dto;
+
+import java.util.ArrayList;
+import java.util.List;
+
+public class BatchResultDto {
+    
+    private int succeeded;
+    
+    private int failed;
+    
+    // One entry per requested item, in request order
+    private List<Item> items = new ArrayList<>();
+    
+    // Constructors
+    public BatchResultDto() {}
+    
+    public void addSuccess(int index, Long eventId, String status) {
+        items.add(new Item(index, eventId, status, null));
+        succeeded++;
+    }
+    
+    public void addFailure(int index, Long eventId, String error) {
+        items.add(new Item(index, eventId, "failed", error));
+        failed++;
+    }
+    
+    // Getters and Setters
+    public int getSucceeded() {
+        return succeeded;
+    }
+    
+    public void setSucceeded(int succeeded) {
+        this.succeeded = succeeded;
+    }
+    
+    public int getFailed() {
+        return failed;
+    }
+    
+    public void setFailed(int failed) {
+        this.failed = failed;
+    }
+    
+    public List<Item> getItems() {
+        return items;
+    }
+    
+    public void setItems(List<Item> items) {
+        this.items = items;
+    }
+    
+    public static class Item {
+        
+        private int index;
+        
+        private Long eventId;
+        
+        private String status;
+        
+        private String error;
+        
+        // Constructors
+        public Item() {}
+        
+        public Item(int index, Long eventId, String status, String error) {
+            this.index = index;
+            this.eventId = eventId;
+            this.status = status;
+            this.error = error;
+        }
+        
+        // Getters and Setters
+        public int getIndex() {
+            return index;
+        }
+        
+        public void setIndex(int index) {
+            this.index = index;
+        }
+        
+        public Long getEventId() {
+            return eventId;
+        }
+        
+        public void setEventId(Long eventId) {
+            this.eventId = eventId;
+        }
+        
+        public String getStatus() {
+            return status;
+        }
+        
+        public void setStatus(String status) {
+            this.status = status;
+        }
+        
+        public String getError() {
+            return error;
+        }
+        
+        public void setError(String error) {
+            this.error = error;
+        }
+    }
+}
@@ -0,0 +1,35 @@
+package com.campusconnect.dto;
+
+import java.util.List;
+
+// Students to enroll, by user id and/or by student number; outcomes follow this order
+public class BulkEnrollmentRequest {
+    
+    private List<Long> userIds;
+    
+    private List<String> studentIds;
+    
+    // Constructors
+    public BulkEnrollmentRequest() {}
+    
+    public int size() {
+        return (userIds != null ? userIds.size() : 0) + (studentIds != null ? studentIds.size() : 0);
+    }
+    
+    // Getters and Setters
+    public List<Long> getUserIds() {
+        return userIds;
+    }
+    
+    public void setUserIds(List<Long> userIds) {
+        this.userIds = userIds;
+    }
+    
+    public List<String> getStudentIds() {
+        return studentIds;
+    }
+    
+    public void setStudentIds(List<String> studentIds) {
+        this.studentIds = studentIds;
+    }
+}
@@ -0,0 +1,135 @@
+package com.campusconnect.dto;
+
+import java.util.ArrayList;
+import java.util.List;
+
+public class BulkEnrollmentResultDto {
+    
+    private Long eventId;
+    
+    private int enrolled;
+    
+    private int alreadyRegistered;
+    
+    private int failed;
+    
+    // One entry per requested student: user ids first, then student numbers, in request order
+    private List<Item> items = new ArrayList<>();
+    
+    // Constructors
+    public BulkEnrollmentResultDto() {}
+    
+    public BulkEnrollmentResultDto(Long eventId) {
+        this.eventId = eventId;
+    }
+    
+    public void addEnrolled(Long userId, String studentId) {
+        items.add(new Item(userId, studentId, "enrolled", null));
+        enrolled++;
+    }
+    
+    public void addAlreadyRegistered(Long userId, String studentId) {
+        items.add(new Item(userId, studentId, "already_registered", null));
+        alreadyRegistered++;
+    }
+    
+    public void addFailure(Long userId, String studentId, String error) {
+        items.add(new Item(userId, studentId, "failed", error));
+        failed++;
+    }
+    
+    // Getters and Setters
+    public Long getEventId() {
+        return eventId;
+    }
+    
+    public void setEventId(Long eventId) {
+        this.eventId = eventId;
+    }
+    
+    public int getEnrolled() {
+        return enrolled;
+    }
+    
+    public void setEnrolled(int enrolled) {
+        this.enrolled = enrolled;
+    }
+    
+    public int getAlreadyRegistered() {
+        return alreadyRegistered;
+    }
+    
+    public void setAlreadyRegistered(int alreadyRegistered) {
+        this.alreadyRegistered = alreadyRegistered;
+    }
+    
+    public int getFailed() {
+        return failed;
+    }
+    
+    public void setFailed(int failed) {
+        this.failed = failed;
+    }
+    
+    public List<Item> getItems() {
+        return items;
+    }
+    
+    public void setItems(List<Item> items) {
+        this.items = items;
+    }
+    
+    public static class Item {
+        
+        private Long userId;
+        
+        private String studentId;
+        
+        private String status;
+        
+        private String error;
+        
+        // Constructors
+        public Item() {}
+        
+        public Item(Long userId, String studentId, String status, String error) {
+            this.userId = userId;
+            this.studentId = studentId;
+            this.status = status;
+            this.error = error;
+        }
+        
+        // Getters and Setters
+        public Long getUserId() {
+            return userId;
+        }
+        
+        public void setUserId(Long userId) {
+            this.userId = userId;
+        }
+        
+        public String getStudentId() {
+            return studentId;
+        }
+        
+        public void setStudentId(String studentId) {
+            this.studentId = studentId;
+        }
+        
+        public String getStatus() {
+            return status;
+        }
+        
+        public void setStatus(String status) {
+            this.status = status;
+        }
+        
+        public String getError() {
+            return error;
+        }
+        
+        public void setError(String error) {
+            this.error = error;
+        }
+    }
+}
@@ -0,0 +1,62 @@
+package com.campusconnect.dto;
+
+public class CacheStatsDto {
+    
+    private String name;
+    private int size;
+    private long hits;
+    private long misses;
+    private double hitRate;
+    
+    // Constructors
+    public CacheStatsDto() {}
+    
+    public CacheStatsDto(String name, int size, long hits, long misses) {
+        this.name = name;
+        this.size = size;
+        this.hits = hits;
+        this.misses = misses;
+        this.hitRate = hits + misses == 0 ? 0 : (double) hits / (hits + misses);
+    }
+    
+    // Getters and Setters
+    public String getName() {
+        return name;
+    }
+    
+    public void setName(String name) {
+        this.name = name;
+    }
+    
+    public int getSize() {
+        return size;
+    }
+    
+    public void setSize(int size) {
+        this.size = size;
+    }
+    
+    public long getHits() {
+        return hits;
+    }
+    
+    public void setHits(long hits) {
+        this.hits = hits;
+    }
+    
+    public long getMisses() {
+        return misses;
+    }
+    
+    public void setMisses(long misses) {
+        this.misses = misses;
+    }
+    
+    public double getHitRate() {
+        return hitRate;
+    }
+    
+    public void setHitRate(double hitRate) {
+        this.hitRate = hitRate;
+    }
+}
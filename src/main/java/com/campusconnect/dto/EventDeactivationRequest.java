@@ -0,0 +1,56 @@
+package com.campusconnect.dto;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+// Either explicit event ids, or a filter over the caller's active events (at least one criterion)
+public class EventDeactivationRequest {
+    
+    private List<Long> eventIds;
+    
+    private String category;
+    
+    private LocalDateTime startsAfter;
+    
+    private LocalDateTime startsBefore;
+    
+    // Constructors
+    public EventDeactivationRequest() {}
+    
+    public boolean hasFilter() {
+        return category != null || startsAfter != null || startsBefore != null;
+    }
+    
+    // Getters and Setters
+    public List<Long> getEventIds() {
+        return eventIds;
+    }
+    
+    public void setEventIds(List<Long> eventIds) {
+        this.eventIds = eventIds;
+    }
+    
+    public String getCategory() {
+        return category;
+    }
+    
+    public void setCategory(String category) {
+        this.category = category;
+    }
+    
+    public LocalDateTime getStartsAfter() {
+        return startsAfter;
+    }
+    
+    public void setStartsAfter(LocalDateTime startsAfter) {
+        this.startsAfter = startsAfter;
+    }
+    
+    public LocalDateTime getStartsBefore() {
+        return startsBefore;
+    }
+    
+    public void setStartsBefore(LocalDateTime startsBefore) {
+        this.startsBefore = startsBefore;
+    }
+}
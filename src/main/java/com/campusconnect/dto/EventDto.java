@@ -47,6 +47,8 @@ public class EventDto {
     
     private boolean isActive;
     
+    private Boolean queuedAdmission;
+    
     private boolean isRegistrationOpen;
     
     private boolean isEventFull;
@@ -85,9 +87,10 @@ public class EventDto {
         dto.setCreatedAt(event.getCreatedAt());
         dto.setUpdatedAt(event.getUpdatedAt());
         dto.setActive(event.isActive());
+        dto.setQueuedAdmission(event.isQueuedAdmission());
         dto.setRegistrationOpen(event.isRegistrationOpen());
         dto.setEventFull(event.isEventFull());
-        dto.setCurrentParticipants(event.getParticipants().size());
+        dto.setCurrentParticipants(event.getParticipantCount());
         
         if (event.getCreatedBy() != null) {
             dto.setCreatedById(event.getCreatedBy().getId());
@@ -216,6 +219,14 @@ public class EventDto {
         isActive = active;
     }
     
+    public Boolean getQueuedAdmission() {
+        return queuedAdmission;
+    }
+    
+    public void setQueuedAdmission(Boolean queuedAdmission) {
+        this.queuedAdmission = queuedAdmission;
+    }
+    
     public boolean isRegistrationOpen() {
         return isRegistrationOpen;
     }
@@ -0,0 +1,58 @@
+package com.campusconnect.dto;
+
+import java.nio.ByteBuffer;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.LocalDateTime;
+import java.util.Base64;
+import java.util.List;
+
+/**
+ * Fingerprint of a set of events for conditional GETs: how many there are and a SHA-256 digest
+ * of their (id, version, registration open) triples in id order. Any change to membership, to a
+ * listed event or to whether its registration is open changes the digest; unlike sums of ids
+ * and versions, two different sets cannot realistically end up with the same one.
+ */
+public class EventSetVersion {
+    
+    private final long count;
+    
+    private final String digest;
+    
+    private EventSetVersion(long count, String digest) {
+        this.count = count;
+        this.digest = digest;
+    }
+    
+    // The versions must be in id order, as the EventRepository lookups return them
+    public static EventSetVersion of(List<EventVersion> versions, LocalDateTime now) {
+        MessageDigest sha256 = sha256();
+        ByteBuffer entry = ByteBuffer.allocate(2 * Long.BYTES + 1);
+        for (EventVersion version : versions) {
+            entry.clear();
+            entry.putLong(version.getId()).putLong(version.getVersion()).put((byte) (version.isRegistrationOpen(now) ? 1 : 0));
+            sha256.update(entry.array());
+        }
+        return new EventSetVersion(versions.size(), Base64.getUrlEncoder().withoutPadding().encodeToString(sha256.digest()));
+    }
+    
+    public String encode() {
+        return count + "." + digest;
+    }
+    
+    public long getCount() {
+        return count;
+    }
+    
+    public String getDigest() {
+        return digest;
+    }
+    
+    private static MessageDigest sha256() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is not available", e);
+        }
+    }
+}
@@ -0,0 +1,68 @@
+package com.campusconnect.dto;
+
+import java.time.LocalDateTime;
+
+public class EventSuggestionDto {
+    
+    private Long id;
+    
+    private String title;
+    
+    private String organizer;
+    
+    private String location;
+    
+    private LocalDateTime eventDateTime;
+    
+    // Constructors
+    public EventSuggestionDto() {}
+    
+    public EventSuggestionDto(Long id, String title, String organizer, String location, LocalDateTime eventDateTime) {
+        this.id = id;
+        this.title = title;
+        this.organizer = organizer;
+        this.location = location;
+        this.eventDateTime = eventDateTime;
+    }
+    
+    // Getters and Setters
+    public Long getId() {
+        return id;
+    }
+    
+    public void setId(Long id) {
+        this.id = id;
+    }
+    
+    public String getTitle() {
+        return title;
+    }
+    
+    public void setTitle(String title) {
+        this.title = title;
+    }
+    
+    public String getOrganizer() {
+        return organizer;
+    }
+    
+    public void setOrganizer(String organizer) {
+        this.organizer = organizer;
+    }
+    
+    public String getLocation() {
+        return location;
+    }
+    
+    public void setLocation(String location) {
+        this.location = location;
+    }
+    
+    public LocalDateTime getEventDateTime() {
+        return eventDateTime;
+    }
+    
+    public void setEventDateTime(LocalDateTime eventDateTime) {
+        this.eventDateTime = eventDateTime;
+    }
+}
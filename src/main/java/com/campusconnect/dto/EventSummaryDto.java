@@ -0,0 +1,181 @@
+package com.campusconnect.dto;
+
+import java.time.LocalDateTime;
+
+/**
+ * List view of an event. Built directly by JPQL constructor expressions in
+ * EventRepository, so a whole page is read in one statement without touching
+ * the lazy creator or participant associations. Use EventDto for the detail view.
+ */
+public class EventSummaryDto {
+    
+    private Long id;
+    
+    private String title;
+    
+    private String location;
+    
+    private LocalDateTime eventDateTime;
+    
+    private LocalDateTime registrationDeadline;
+    
+    private int maxParticipants;
+    
+    private String category;
+    
+    private String organizer;
+    
+    private String createdByUsername;
+    
+    private LocalDateTime createdAt;
+    
+    private boolean isActive;
+    
+    private boolean isRegistrationOpen;
+    
+    private boolean isEventFull;
+    
+    private int currentParticipants;
+    
+    // Constructors
+    public EventSummaryDto() {}
+    
+    // Used by the JPQL constructor expressions in EventRepository
+    public EventSummaryDto(Long id, String title, String location, LocalDateTime eventDateTime,
+                           LocalDateTime registrationDeadline, int maxParticipants, String category, String organizer,
+                           String createdByUsername, LocalDateTime createdAt, boolean isActive, int currentParticipants) {
+        this.id = id;
+        this.title = title;
+        this.location = location;
+        this.eventDateTime = eventDateTime;
+        this.registrationDeadline = registrationDeadline;
+        this.maxParticipants = maxParticipants;
+        this.category = category;
+        this.organizer = organizer;
+        this.createdByUsername = createdByUsername;
+        this.createdAt = createdAt;
+        this.isActive = isActive;
+        this.currentParticipants = currentParticipants;
+        this.isRegistrationOpen = isActive && LocalDateTime.now().isBefore(registrationDeadline);
+        this.isEventFull = maxParticipants > 0 && currentParticipants >= maxParticipants;
+    }
+    
+    // Copy with the time-dependent flags recomputed against the current time
+    public EventSummaryDto refreshed() {
+        return new EventSummaryDto(id, title, location, eventDateTime, registrationDeadline, maxParticipants, category,
+                organizer, createdByUsername, createdAt, isActive, currentParticipants);
+    }
+    
+    // Getters and Setters
+    public Long getId() {
+        return id;
+    }
+    
+    public void setId(Long id) {
+        this.id = id;
+    }
+    
+    public String getTitle() {
+        return title;
+    }
+    
+    public void setTitle(String title) {
+        this.title = title;
+    }
+    
+    public String getLocation() {
+        return location;
+    }
+    
+    public void setLocation(String location) {
+        this.location = location;
+    }
+    
+    public LocalDateTime getEventDateTime() {
+        return eventDateTime;
+    }
+    
+    public void setEventDateTime(LocalDateTime eventDateTime) {
+        this.eventDateTime = eventDateTime;
+    }
+    
+    public LocalDateTime getRegistrationDeadline() {
+        return registrationDeadline;
+    }
+    
+    public void setRegistrationDeadline(LocalDateTime registrationDeadline) {
+        this.registrationDeadline = registrationDeadline;
+    }
+    
+    public int getMaxParticipants() {
+        return maxParticipants;
+    }
+    
+    public void setMaxParticipants(int maxParticipants) {
+        this.maxParticipants = maxParticipants;
+    }
+    
+    public String getCategory() {
+        return category;
+    }
+    
+    public void setCategory(String category) {
+        this.category = category;
+    }
+    
+    public String getOrganizer() {
+        return organizer;
+    }
+    
+    public void setOrganizer(String organizer) {
+        this.organizer = organizer;
+    }
+    
+    public String getCreatedByUsername() {
+        return createdByUsername;
+    }
+    
+    public void setCreatedByUsername(String createdByUsername) {
+        this.createdByUsername = createdByUsername;
+    }
+    
+    public LocalDateTime getCreatedAt() {
+        return createdAt;
+    }
+    
+    public void setCreatedAt(LocalDateTime createdAt) {
+        this.createdAt = createdAt;
+    }
+    
+    public boolean isActive() {
+        return isActive;
+    }
+    
+    public void setActive(boolean active) {
+        isActive = active;
+    }
+    
+    public boolean isRegistrationOpen() {
+        return isRegistrationOpen;
+    }
+    
+    public void setRegistrationOpen(boolean registrationOpen) {
+        isRegistrationOpen = registrationOpen;
+    }
+    
+    public boolean isEventFull() {
+        return isEventFull;
+    }
+    
+    public void setEventFull(boolean eventFull) {
+        isEventFull = eventFull;
+    }
+    
+    public int getCurrentParticipants() {
+        return currentParticipants;
+    }
+    
+    public void setCurrentParticipants(int currentParticipants) {
+        this.currentParticipants = currentParticipants;
+    }
+}
@@ -0,0 +1,51 @@
+package com.campusconnect.dto;
+
+import java.time.LocalDateTime;
+
+/**
+ * What an event's ETag is made of: its version, plus what decides whether registration is
+ * open, which changes with time rather than with the row.
+ */
+public class EventVersion {
+    
+    private final Long id;
+    
+    private final long version;
+    
+    private final LocalDateTime registrationDeadline;
+    
+    private final boolean active;
+    
+    // Used by the JPQL constructor expressions in EventRepository
+    public EventVersion(Long id, Long version, LocalDateTime registrationDeadline, Boolean active) {
+        this.id = id;
+        this.version = version;
+        this.registrationDeadline = registrationDeadline;
+        this.active = active;
+    }
+    
+    // Same rule as Event.isRegistrationOpen, which the response body is built with
+    public boolean isRegistrationOpen(LocalDateTime now) {
+        return active && now.isBefore(registrationDeadline);
+    }
+    
+    public String encode(LocalDateTime now) {
+        return version + (isRegistrationOpen(now) ? "-open" : "-closed");
+    }
+    
+    public Long getId() {
+        return id;
+    }
+    
+    public long getVersion() {
+        return version;
+    }
+    
+    public LocalDateTime getRegistrationDeadline() {
+        return registrationDeadline;
+    }
+    
+    public boolean isActive() {
+        return active;
+    }
+}
@@ -0,0 +1,115 @@
+package com.campusconnect.dto;
+
+public class ExecutorStatsDto {
+    
+    private String name;
+    private int threads;
+    private int activeThreads;
+    // Share of threads busy, 0 to 1; at 1 new work waits in the queue
+    private double saturation;
+    private int queueDepth;
+    private int queueCapacity;
+    private long completed;
+    private long rejected;
+    private double avgQueueMs;
+    private double maxQueueMs;
+    private double avgRunMs;
+    private double maxRunMs;
+    
+    // Getters and Setters
+    public String getName() {
+        return name;
+    }
+    
+    public void setName(String name) {
+        this.name = name;
+    }
+    
+    public int getThreads() {
+        return threads;
+    }
+    
+    public void setThreads(int threads) {
+        this.threads = threads;
+    }
+    
+    public int getActiveThreads() {
+        return activeThreads;
+    }
+    
+    public void setActiveThreads(int activeThreads) {
+        this.activeThreads = activeThreads;
+    }
+    
+    public double getSaturation() {
+        return saturation;
+    }
+    
+    public void setSaturation(double saturation) {
+        this.saturation = saturation;
+    }
+    
+    public int getQueueDepth() {
+        return queueDepth;
+    }
+    
+    public void setQueueDepth(int queueDepth) {
+        this.queueDepth = queueDepth;
+    }
+    
+    public int getQueueCapacity() {
+        return queueCapacity;
+    }
+    
+    public void setQueueCapacity(int queueCapacity) {
+        this.queueCapacity = queueCapacity;
+    }
+    
+    public long getCompleted() {
+        return completed;
+    }
+    
+    public void setCompleted(long completed) {
+        this.completed = completed;
+    }
+    
+    public long getRejected() {
+        return rejected;
+    }
+    
+    public void setRejected(long rejected) {
+        this.rejected = rejected;
+    }
+    
+    public double getAvgQueueMs() {
+        return avgQueueMs;
+    }
+    
+    public void setAvgQueueMs(double avgQueueMs) {
+        this.avgQueueMs = avgQueueMs;
+    }
+    
+    public double getMaxQueueMs() {
+        return maxQueueMs;
+    }
+    
+    public void setMaxQueueMs(double maxQueueMs) {
+        this.maxQueueMs = maxQueueMs;
+    }
+    
+    public double getAvgRunMs() {
+        return avgRunMs;
+    }
+    
+    public void setAvgRunMs(double avgRunMs) {
+        this.avgRunMs = avgRunMs;
+    }
+    
+    public double getMaxRunMs() {
+        return maxRunMs;
+    }
+    
+    public void setMaxRunMs(double maxRunMs) {
+        this.maxRunMs = maxRunMs;
+    }
+}
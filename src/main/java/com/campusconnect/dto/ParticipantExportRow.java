@@ -0,0 +1,118 @@
+package com.campusconnect.dto;
+
+import java.time.LocalDateTime;
+
+/**
+ * One registration (event + participant) as written by the export endpoints.
+ */
+public class ParticipantExportRow {
+    
+    private Long eventId;
+    private String eventTitle;
+    private LocalDateTime eventDateTime;
+    private Long userId;
+    private String username;
+    private String email;
+    private String firstName;
+    private String lastName;
+    private String studentId;
+    private String department;
+    
+    // Constructors
+    public ParticipantExportRow() {}
+    
+    public ParticipantExportRow(Long eventId, String eventTitle, LocalDateTime eventDateTime, Long userId, String username,
+                                String email, String firstName, String lastName, String studentId, String department) {
+        this.eventId = eventId;
+        this.eventTitle = eventTitle;
+        this.eventDateTime = eventDateTime;
+        this.userId = userId;
+        this.username = username;
+        this.email = email;
+        this.firstName = firstName;
+        this.lastName = lastName;
+        this.studentId = studentId;
+        this.department = department;
+    }
+    
+    // Getters and Setters
+    public Long getEventId() {
+        return eventId;
+    }
+    
+    public void setEventId(Long eventId) {
+        this.eventId = eventId;
+    }
+    
+    public String getEventTitle() {
+        return eventTitle;
+    }
+    
+    public void setEventTitle(String eventTitle) {
+        this.eventTitle = eventTitle;
+    }
+    
+    public LocalDateTime getEventDateTime() {
+        return eventDateTime;
+    }
+    
+    public void setEventDateTime(LocalDateTime eventDateTime) {
+        this.eventDateTime = eventDateTime;
+    }
+    
+    public Long getUserId() {
+        return userId;
+    }
+    
+    public void setUserId(Long userId) {
+        this.userId = userId;
+    }
+    
+    public String getUsername() {
+        return username;
+    }
+    
+    public void setUsername(String username) {
+        this.username = username;
+    }
+    
+    public String getEmail() {
+        return email;
+    }
+    
+    public void setEmail(String email) {
+        this.email = email;
+    }
+    
+    public String getFirstName() {
+        return firstName;
+    }
+    
+    public void setFirstName(String firstName) {
+        this.firstName = firstName;
+    }
+    
+    public String getLastName() {
+        return lastName;
+    }
+    
+    public void setLastName(String lastName) {
+        this.lastName = lastName;
+    }
+    
+    public String getStudentId() {
+        return studentId;
+    }
+    
+    public void setStudentId(String studentId) {
+        this.studentId = studentId;
+    }
+    
+    public String getDepartment() {
+        return department;
+    }
+    
+    public void setDepartment(String department) {
+        this.department = department;
+    }
+}
@@ -0,0 +1,36 @@
+package com.campusconnect.dto;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+/**
+ * Opaque keyset position for user listings, which are ordered by id alone.
+ */
+public class UserCursor {
+    
+    private final Long id;
+    
+    public UserCursor(Long id) {
+        this.id = id;
+    }
+    
+    public String encode() {
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(id.toString().getBytes(StandardCharsets.UTF_8));
+    }
+    
+    // Returns null for a missing cursor, which means "start from the first page"
+    public static UserCursor decode(String cursor) {
+        if (cursor == null || cursor.isBlank()) {
+            return null;
+        }
+        try {
+            return new UserCursor(Long.parseLong(new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8)));
+        } catch (IllegalArgumentException e) {
+            throw new RuntimeException("Invalid cursor");
+        }
+    }
+    
+    public Long getId() {
+        return id;
+    }
+}
@@ -45,6 +45,19 @@ public class UserDto {
         this.role = role;
     }
     
+    // Directory projection: everything except the password
+    public UserDto(Long id, String username, String email, String firstName, String lastName, User.Role role,
+                   String studentId, String department) {
+        this.id = id;
+        this.username = username;
+        this.email = email;
+        this.firstName = firstName;
+        this.lastName = lastName;
+        this.role = role;
+        this.studentId = studentId;
+        this.department = department;
+    }
+    
     // Static factory method to create DTO from entity
     public static UserDto fromEntity(User user) {
         UserDto dto = new UserDto();
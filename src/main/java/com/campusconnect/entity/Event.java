@@ -4,17 +4,30 @@ import jakarta.persistence.*;
 import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.NotNull;
 import jakarta.validation.constraints.Size;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 
 import java.time.LocalDateTime;
 import java.util.HashSet;
 import java.util.Set;
 
 @Entity
-@Table(name = "events")
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE)
+@Table(name = "events", indexes = {
+    @Index(name = "idx_events_active_datetime", columnList = "is_active, event_date_time, id"),
+    @Index(name = "idx_events_category_datetime", columnList = "category, event_date_time, id"),
+    @Index(name = "idx_events_creator_created", columnList = "created_by, created_at, id")
+})
 public class Event {
     
+    // Ids are handed out from the sequence in blocks, so inserts need no round-trip per row and
+    // Hibernate can batch them (IDENTITY would force one INSERT per statement to read the key)
+    public static final int ID_ALLOCATION_SIZE = 50;
+    
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "events_seq")
+    @SequenceGenerator(name = "events_seq", sequenceName = "events_seq", allocationSize = ID_ALLOCATION_SIZE)
     private Long id;
     
     @NotBlank(message = "Event title is required")
@@ -51,11 +64,26 @@ public class Event {
     
     private boolean isActive = true;
     
+    // Joins go through RegistrationAdmissionEngine instead of the synchronous path
+    private boolean queuedAdmission;
+    
+    // Denormalized size of participants, maintained by the conditional seat updates in EventRepository
+    @Column(nullable = false)
+    private int participantCount;
+    
+    // Optimistic-lock version. The bulk seat updates in EventRepository bump it too, so it moves
+    // whenever anything in the event's representation does and also serves as its ETag
+    @Version
+    @Column(nullable = false)
+    private long version;
+    
     @ManyToMany(fetch = FetchType.LAZY)
+    @Cache(usage = CacheConcurrencyStrategy.READ_WRITE)
     @JoinTable(
         name = "event_participants",
         joinColumns = @JoinColumn(name = "event_id"),
-        inverseJoinColumns = @JoinColumn(name = "user_id")
+        inverseJoinColumns = @JoinColumn(name = "user_id"),
+        uniqueConstraints = @UniqueConstraint(name = "uk_event_participant", columnNames = {"event_id", "user_id"})
     )
     private Set<User> participants = new HashSet<>();
     
@@ -92,7 +120,7 @@ public class Event {
     }
     
     public boolean isEventFull() {
-        return maxParticipants > 0 && participants.size() >= maxParticipants;
+        return maxParticipants > 0 && participantCount >= maxParticipants;
     }
     
     public boolean canJoin(User user) {
@@ -100,13 +128,15 @@ public class Event {
     }
     
     public void addParticipant(User user) {
-        if (canJoin(user)) {
-            participants.add(user);
+        if (canJoin(user) && participants.add(user)) {
+            participantCount++;
         }
     }
     
     public void removeParticipant(User user) {
-        participants.remove(user);
+        if (participants.remove(user)) {
+            participantCount--;
+        }
     }
     
     // Getters and Setters
@@ -214,6 +244,26 @@ public class Event {
         isActive = active;
     }
     
+    public boolean isQueuedAdmission() {
+        return queuedAdmission;
+    }
+    
+    public void setQueuedAdmission(boolean queuedAdmission) {
+        this.queuedAdmission = queuedAdmission;
+    }
+    
+    public int getParticipantCount() {
+        return participantCount;
+    }
+    
+    public void setParticipantCount(int participantCount) {
+        this.participantCount = participantCount;
+    }
+    
+    public long getVersion() {
+        return version;
+    }
+    
     public Set<User> getParticipants() {
         return participants;
     }
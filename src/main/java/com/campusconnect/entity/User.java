@@ -4,6 +4,8 @@ import jakarta.persistence.*;
 import jakarta.validation.constraints.Email;
 import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.Size;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 import org.springframework.security.core.GrantedAuthority;
 import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.security.core.userdetails.UserDetails;
@@ -12,7 +14,13 @@ import java.util.Collection;
 import java.util.List;
 
 @Entity
-@Table(name = "users")
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE)
+@Table(name = "users", indexes = {
+    @Index(name = "idx_users_role_id", columnList = "role, id"),
+    @Index(name = "idx_users_role_department", columnList = "role, department, id"),
+    @Index(name = "idx_users_student_id", columnList = "student_id")
+})
 public class User implements UserDetails {
     
     @Id
@@ -48,6 +56,10 @@ public class User implements UserDetails {
     
     private boolean enabled = true;
     
+    // Bumped to revoke every token issued before; see TokenVersionRegistry
+    @Column(nullable = false)
+    private int tokenVersion;
+    
     public enum Role {
         ADMIN, STUDENT
     }
@@ -166,4 +178,12 @@ public class User implements UserDetails {
     public void setEnabled(boolean enabled) {
         this.enabled = enabled;
     }
+    
+    public int getTokenVersion() {
+        return tokenVersion;
+    }
+    
+    public void setTokenVersion(int tokenVersion) {
+        this.tokenVersion = tokenVersion;
+    }
 }
@@ -0,0 +1,108 @@
+package com.campusconnect.metrics;
+
+import com.campusconnect.dto.EventSummaryDto;
+import com.campusconnect.service.PublicListingSnapshots;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.MultiGauge;
+import io.micrometer.core.instrument.Tags;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Seats remaining on events that are open for registration, read from the public listing
+ * snapshot rather than the database. events.open.seats.remaining has one series per event,
+ * for the events whose registration closes soonest (metrics.seat-gauges.max-events), to keep
+ * the number of series bounded; the totals cover every open event. Events without a
+ * participant limit are left out.
+ */
+@Component
+public class OpenEventSeatGauges {
+    
+    private static final Logger logger = LoggerFactory.getLogger(OpenEventSeatGauges.class);
+    
+    @Autowired
+    private MeterRegistry meterRegistry;
+    
+    @Autowired
+    private PublicListingSnapshots listingSnapshots;
+    
+    @Value("${metrics.seat-gauges.max-events}")
+    private int maxEvents;
+    
+    @Value("${metrics.seat-gauges.refresh-ms}")
+    private long refreshMs;
+    
+    private final ScheduledExecutorService scheduler =
+            Executors.newSingleThreadScheduledExecutor(new CustomizableThreadFactory("seat-gauges-"));
+    
+    private MultiGauge seatsRemaining;
+    
+    // Snapshot version the per-event series were last built from
+    private String publishedVersion;
+    
+    @PostConstruct
+    void start() {
+        seatsRemaining = MultiGauge.builder("events.open.seats.remaining")
+                .description("Seats remaining on an event open for registration")
+                .register(meterRegistry);
+        Gauge.builder("events.open", this, gauges -> gauges.limitedOpenEvents().size())
+                .description("Events open for registration with a participant limit")
+                .register(meterRegistry);
+        Gauge.builder("events.open.seats.remaining.total", this, OpenEventSeatGauges::totalSeatsRemaining)
+                .description("Seats remaining across all events open for registration")
+                .register(meterRegistry);
+        scheduler.scheduleWithFixedDelay(this::refresh, 0, refreshMs, TimeUnit.MILLISECONDS);
+    }
+    
+    @PreDestroy
+    void stop() {
+        scheduler.shutdownNow();
+    }
+    
+    private void refresh() {
+        String version = listingSnapshots.getVersionTag();
+        if (version.equals(publishedVersion)) {
+            return;
+        }
+        try {
+            List<MultiGauge.Row<?>> rows = limitedOpenEvents().stream()
+                    .limit(maxEvents)
+                    .<MultiGauge.Row<?>>map(event -> MultiGauge.Row.of(
+                            Tags.of("event", String.valueOf(event.getId()),
+                                    "category", event.getCategory() != null ? event.getCategory() : "none"),
+                            seatsLeft(event)))
+                    .toList();
+            seatsRemaining.register(rows, true);
+            publishedVersion = version;
+        } catch (RuntimeException e) {
+            // Keep the schedule alive; the next run retries
+            logger.warn("Could not refresh seat gauges", e);
+        }
+    }
+    
+    private List<EventSummaryDto> limitedOpenEvents() {
+        return listingSnapshots.getOpenRegistrationEvents().stream()
+                .filter(event -> event.getMaxParticipants() > 0)
+                .toList();
+    }
+    
+    private double totalSeatsRemaining() {
+        return limitedOpenEvents().stream().mapToInt(OpenEventSeatGauges::seatsLeft).sum();
+    }
+    
+    private static int seatsLeft(EventSummaryDto event) {
+        return Math.max(0, event.getMaxParticipants() - event.getCurrentParticipants());
+    }
+}
@@ -0,0 +1,84 @@
+package com.campusconnect.metrics;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+/**
+ * Times joins and leaves by outcome (events.join and events.leave, tagged outcome), covering
+ * both the direct path and queued admission. Outcomes are derived from the rejection messages
+ * EventService and RegistrationAdmissionEngine use.
+ */
+@Component
+public class RegistrationMetrics {
+    
+    @Autowired
+    private MeterRegistry meterRegistry;
+    
+    public <T> CompletableFuture<T> timeJoin(Supplier<CompletableFuture<T>> join) {
+        return time("events.join", join);
+    }
+    
+    public <T> CompletableFuture<T> timeLeave(Supplier<CompletableFuture<T>> leave) {
+        return time("events.leave", leave);
+    }
+    
+    // Also records attempts rejected before any work was queued; the attempt's own future is returned
+    private <T> CompletableFuture<T> time(String name, Supplier<CompletableFuture<T>> attempt) {
+        long startNanos = System.nanoTime();
+        CompletableFuture<T> result;
+        try {
+            result = attempt.get();
+        } catch (RuntimeException e) {
+            record(name, startNanos, e);
+            throw e;
+        }
+        result.whenComplete((value, error) -> record(name, startNanos, error));
+        return result;
+    }
+    
+    private void record(String name, long startNanos, Throwable error) {
+        Timer.builder(name)
+                .description("Registration attempts by outcome")
+                .tag("outcome", outcome(error))
+                .publishPercentileHistogram()
+                .register(meterRegistry)
+                .record(System.nanoTime() - startNanos, TimeUnit.NANOSECONDS);
+    }
+    
+    private static String outcome(Throwable error) {
+        if (error instanceof CompletionException && error.getCause() != null) {
+            error = error.getCause();
+        }
+        if (error == null) {
+            return "ok";
+        }
+        if (error instanceof RejectedExecutionException) {
+            return "busy";
+        }
+        String message = error.getMessage() != null ? error.getMessage() : "";
+        if (message.equals("Event is full")) {
+            return "full";
+        }
+        if (message.startsWith("Registration is closed") || message.equals("Event is not active")) {
+            return "closed";
+        }
+        if (message.startsWith("You are already registered")) {
+            return "duplicate";
+        }
+        if (message.startsWith("You are not registered")) {
+            return "not_registered";
+        }
+        if (message.equals("Event not found")) {
+            return "not_found";
+        }
+        return "error";
+    }
+}
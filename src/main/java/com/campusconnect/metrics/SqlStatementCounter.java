@@ -0,0 +1,63 @@
+package com.campusconnect.metrics;
+
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+/**
+ * Counts the SQL statements Hibernate prepares for the current request. Registered as
+ * Hibernate's statement inspector (hibernate.session_factory.statement_inspector), so it sees
+ * every statement Hibernate prepares, including cache misses. A JDBC batch counts once.
+ * Statements sent through JdbcTemplate are not seen.
+ *
+ * The count is bound to a thread for the duration of a request; work handed to another
+ * thread keeps counting towards the request when wrapped with propagate().
+ */
+public class SqlStatementCounter implements StatementInspector {
+    
+    private static final ThreadLocal<AtomicInteger> CURRENT = new ThreadLocal<>();
+    
+    @Override
+    public String inspect(String sql) {
+        AtomicInteger count = CURRENT.get();
+        if (count != null) {
+            count.incrementAndGet();
+        }
+        return sql;
+    }
+    
+    /**
+     * Binds the count to the calling thread and returns the count it replaces, to be passed back
+     * to restore() once the work is done.
+     */
+    public static AtomicInteger bind(AtomicInteger count) {
+        AtomicInteger previous = CURRENT.get();
+        CURRENT.set(count);
+        return previous;
+    }
+    
+    public static void restore(AtomicInteger previous) {
+        if (previous != null) {
+            CURRENT.set(previous);
+        } else {
+            CURRENT.remove();
+        }
+    }
+    
+    // Makes work that runs on another thread count towards the caller's request
+    public static <T> Supplier<T> propagate(Supplier<T> work) {
+        AtomicInteger count = CURRENT.get();
+        if (count == null) {
+            return work;
+        }
+        return () -> {
+            AtomicInteger previous = bind(count);
+            try {
+                return work.get();
+            } finally {
+                restore(previous);
+            }
+        };
+    }
+}
@@ -0,0 +1,72 @@
+package com.campusconnect.metrics;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.io.IOException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Records how many SQL statements each request ran, per endpoint, as the
+ * http.server.requests.sql.statements summary. Runs ahead of the security filters so token
+ * checks that load the user are counted too. Async requests are recorded when their last
+ * dispatch finishes.
+ */
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE)
+public class SqlStatementMetricsFilter extends OncePerRequestFilter {
+    
+    private static final String COUNT_ATTRIBUTE = SqlStatementMetricsFilter.class.getName() + ".count";
+    
+    private static final double[] BUCKETS = {1, 2, 3, 5, 10, 20, 50, 100};
+    
+    @Autowired
+    private MeterRegistry meterRegistry;
+    
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        AtomicInteger count = (AtomicInteger) request.getAttribute(COUNT_ATTRIBUTE);
+        if (count == null) {
+            count = new AtomicInteger();
+            request.setAttribute(COUNT_ATTRIBUTE, count);
+        }
+        
+        AtomicInteger previous = SqlStatementCounter.bind(count);
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            SqlStatementCounter.restore(previous);
+            if (!request.isAsyncStarted()) {
+                record(request, count.get());
+            }
+        }
+    }
+    
+    // The count has to be picked up again when a CompletableFuture or DeferredResult completes
+    @Override
+    protected boolean shouldNotFilterAsyncDispatch() {
+        return false;
+    }
+    
+    private void record(HttpServletRequest request, int statements) {
+        Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+        DistributionSummary.builder("http.server.requests.sql.statements")
+                .description("SQL statements run per request")
+                .tag("method", request.getMethod())
+                .tag("uri", pattern != null ? pattern.toString() : "UNKNOWN")
+                .serviceLevelObjectives(BUCKETS)
+                .register(meterRegistry)
+                .record(statements);
+    }
+}
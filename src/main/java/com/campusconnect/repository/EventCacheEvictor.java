@@ -0,0 +1,52 @@
+package com.campusconnect.repository;
+
+import com.campusconnect.entity.Event;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.Cache;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Seat counts, versions and participant rows are written with native SQL and JDBC. Those writes
+ * only declare EventRepository.NATIVE_WRITE_SPACE, which no entity maps to, so Hibernate leaves
+ * the Event and participant regions alone instead of clearing them on every join. Every such
+ * write must call this inside its transaction; once the new rows are visible, only the touched
+ * events, their participant sets and the cached listing queries are dropped.
+ */
+@Component
+public class EventCacheEvictor {
+    
+    // Query cache region of the listings that read participant counts (see EventRepository)
+    public static final String LISTINGS_REGION = "event-listings";
+    
+    private static final String PARTICIPANTS_ROLE = Event.class.getName() + ".participants";
+    
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+    
+    public void evictAfterCommit(Long eventId) {
+        evictAfterCommit(List.of(eventId));
+    }
+    
+    public void evictAfterCommit(Collection<Long> eventIds) {
+        if (eventIds.isEmpty()) {
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                Cache cache = entityManagerFactory.getCache().unwrap(Cache.class);
+                for (Long eventId : eventIds) {
+                    cache.evictEntityData(Event.class, eventId);
+                    cache.evictCollectionData(PARTICIPANTS_ROLE, eventId);
+                }
+                cache.evictQueryRegion(LISTINGS_REGION);
+            }
+        });
+    }
+}
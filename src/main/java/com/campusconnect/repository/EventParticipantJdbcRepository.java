@@ -0,0 +1,53 @@
+package com.campusconnect.repository;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Set-based access to the event_participants join table for paths that register many
+ * users at once. Callers must hold the event row lock (see EventRepository#findByIdForUpdate)
+ * so the existence check and the inserts see a stable participant set.
+ */
+@Repository
+public class EventParticipantJdbcRepository {
+    
+    private static final String INSERT_PARTICIPANT =
+            "INSERT INTO event_participants (event_id, user_id) VALUES (?, ?)";
+    
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+    
+    @Autowired
+    private NamedParameterJdbcTemplate namedParameterJdbcTemplate;
+    
+    @Autowired
+    private EventCacheEvictor eventCacheEvictor;
+    
+    public Set<Long> findRegisteredUserIds(Long eventId, Collection<Long> userIds) {
+        if (userIds.isEmpty()) {
+            return new HashSet<>();
+        }
+        MapSqlParameterSource params = new MapSqlParameterSource()
+                .addValue("eventId", eventId)
+                .addValue("userIds", userIds);
+        return new HashSet<>(namedParameterJdbcTemplate.queryForList(
+                "SELECT user_id FROM event_participants WHERE event_id = :eventId AND user_id IN (:userIds)",
+                params, Long.class));
+    }
+    
+    public void insertParticipants(Long eventId, List<Long> userIds) {
+        jdbcTemplate.batchUpdate(INSERT_PARTICIPANT, userIds, userIds.size(), (ps, userId) -> {
+            ps.setLong(1, eventId);
+            ps.setLong(2, userId);
+        });
+        eventCacheEvictor.evictAfterCommit(eventId);
+    }
+}
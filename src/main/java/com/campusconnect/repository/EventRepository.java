@@ -1,33 +1,196 @@
 package com.campusconnect.repository;
 
+import com.campusconnect.dto.EventVersion;
+import com.campusconnect.dto.EventSummaryDto;
+import com.campusconnect.dto.ParticipantExportRow;
 import com.campusconnect.entity.Event;
-import com.campusconnect.entity.User;
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
 
 @Repository
 public interface EventRepository extends JpaRepository<Event, Long> {
     
-    List<Event> findByIsActiveTrueOrderByEventDateTimeAsc();
+    // Rows fetched per round trip by the export streams
+    String EXPORT_FETCH_SIZE = "500";
     
-    List<Event> findByCategoryAndIsActiveTrueOrderByEventDateTimeAsc(String category);
+    // Query space of the native seat and participant writes; no entity or cached query reads it
+    String NATIVE_WRITE_SPACE = "event_native_writes";
     
-    List<Event> findByCreatedByOrderByCreatedAtDesc(User createdBy);
+    String PARTICIPANT_EXPORT_SELECT = "SELECT new com.campusconnect.dto.ParticipantExportRow(e.id, e.title, e.eventDateTime, " +
+            "p.id, p.username, p.email, p.firstName, p.lastName, p.studentId, p.department) " +
+            "FROM Event e JOIN e.participants p ";
     
-    @Query("SELECT e FROM Event e WHERE e.isActive = true AND e.eventDateTime > :now ORDER BY e.eventDateTime ASC")
-    List<Event> findUpcomingEvents(@Param("now") LocalDateTime now);
+    List<Event> findByIsActiveTrue();
     
-    @Query("SELECT e FROM Event e WHERE e.isActive = true AND e.registrationDeadline > :now ORDER BY e.registrationDeadline ASC")
-    List<Event> findEventsWithOpenRegistration(@Param("now") LocalDateTime now);
+    // Summary rows for list endpoints: creator username and participant count come back in
+    // the same statement, so no lazy association is initialized per row
+    String SUMMARY_SELECT = "SELECT new com.campusconnect.dto.EventSummaryDto(e.id, e.title, e.location, e.eventDateTime, " +
+            "e.registrationDeadline, e.maxParticipants, e.category, e.organizer, c.username, e.createdAt, e.isActive, " +
+            "e.participantCount) FROM Event e LEFT JOIN e.createdBy c ";
     
-    @Query("SELECT e FROM Event e JOIN e.participants p WHERE p.id = :userId AND e.isActive = true ORDER BY e.eventDateTime ASC")
-    List<Event> findEventsByParticipant(@Param("userId") Long userId);
+    // Keyset-paginated listings. Each comes as a first-page query and an "After" query that
+    // returns the rows strictly after (afterTime, afterId) in the listing's sort order. The
+    // cursor is a plain range bound on the sort column plus a tie-break on id, so the database
+    // seeks into the (..., time, id) index instead of scanning it; an optional-cursor OR would
+    // force a scan of every matching row.
+    // The category listing is query-cached in its own region: entity writes to events invalidate it,
+    // and EventCacheEvictor clears the region after the native seat writes.
     
-    @Query("SELECT e FROM Event e WHERE e.isActive = true AND e.title LIKE %:keyword% OR e.description LIKE %:keyword% ORDER BY e.eventDateTime ASC")
-    List<Event> searchEventsByKeyword(@Param("keyword") String keyword);
+    @Query(SUMMARY_SELECT + "WHERE e.isActive = true ORDER BY e.eventDateTime ASC, e.id ASC")
+    List<EventSummaryDto> findActiveEvents(Limit limit);
+    
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"),
+            @QueryHint(name = HibernateHints.HINT_CACHE_REGION, value = EventCacheEvictor.LISTINGS_REGION)
+    })
+    @Query(SUMMARY_SELECT + "WHERE e.isActive = true AND e.category = :category " +
+           "ORDER BY e.eventDateTime ASC, e.id ASC")
+    List<EventSummaryDto> findActiveEventsByCategory(@Param("category") String category, Limit limit);
+    
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"),
+            @QueryHint(name = HibernateHints.HINT_CACHE_REGION, value = EventCacheEvictor.LISTINGS_REGION)
+    })
+    @Query(SUMMARY_SELECT + "WHERE e.isActive = true AND e.category = :category " +
+           "AND e.eventDateTime >= :afterTime AND (e.eventDateTime > :afterTime OR e.id > :afterId) " +
+           "ORDER BY e.eventDateTime ASC, e.id ASC")
+    List<EventSummaryDto> findActiveEventsByCategoryAfter(@Param("category") String category, @Param("afterTime") LocalDateTime afterTime,
+                                                          @Param("afterId") Long afterId, Limit limit);
+    
+    @Query(SUMMARY_SELECT + "WHERE e.createdBy.id = :creatorId ORDER BY e.createdAt DESC, e.id DESC")
+    List<EventSummaryDto> findEventsByCreator(@Param("creatorId") Long creatorId, Limit limit);
+    
+    @Query(SUMMARY_SELECT + "WHERE e.createdBy.id = :creatorId " +
+           "AND e.createdAt <= :afterTime AND (e.createdAt < :afterTime OR e.id < :afterId) " +
+           "ORDER BY e.createdAt DESC, e.id DESC")
+    List<EventSummaryDto> findEventsByCreatorAfter(@Param("creatorId") Long creatorId, @Param("afterTime") LocalDateTime afterTime,
+                                                   @Param("afterId") Long afterId, Limit limit);
+    
+    @Query(SUMMARY_SELECT + "JOIN e.participants p WHERE p.id = :userId AND e.isActive = true " +
+           "ORDER BY e.eventDateTime ASC, e.id ASC")
+    List<EventSummaryDto> findEventsByParticipant(@Param("userId") Long userId, Limit limit);
+    
+    @Query(SUMMARY_SELECT + "JOIN e.participants p WHERE p.id = :userId AND e.isActive = true " +
+           "AND e.eventDateTime >= :afterTime AND (e.eventDateTime > :afterTime OR e.id > :afterId) " +
+           "ORDER BY e.eventDateTime ASC, e.id ASC")
+    List<EventSummaryDto> findEventsByParticipantAfter(@Param("userId") Long userId, @Param("afterTime") LocalDateTime afterTime,
+                                                       @Param("afterId") Long afterId, Limit limit);
+    
+    @Query(SUMMARY_SELECT + "WHERE e.id IN :eventIds")
+    List<EventSummaryDto> findSummariesByIds(@Param("eventIds") Collection<Long> eventIds);
+    
+    @Query(SUMMARY_SELECT + "WHERE e.id = :eventId")
+    Optional<EventSummaryDto> findSummaryById(@Param("eventId") Long eventId);
+    
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT e FROM Event e WHERE e.id = :eventId")
+    Optional<Event> findByIdForUpdate(@Param("eventId") Long eventId);
+    
+    // Export cursors; must be consumed (and closed) inside a read-only transaction
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = EXPORT_FETCH_SIZE))
+    @Query(PARTICIPANT_EXPORT_SELECT + "WHERE e.id = :eventId ORDER BY p.id")
+    Stream<ParticipantExportRow> streamParticipants(@Param("eventId") Long eventId);
+    
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = EXPORT_FETCH_SIZE))
+    @Query(PARTICIPANT_EXPORT_SELECT + "WHERE e.eventDateTime >= :from AND e.eventDateTime < :to " +
+           "ORDER BY e.eventDateTime, e.id, p.id")
+    Stream<ParticipantExportRow> streamRegistrations(@Param("from") LocalDateTime from, @Param("to") LocalDateTime to);
+    
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = EXPORT_FETCH_SIZE))
+    @Query(SUMMARY_SELECT + "ORDER BY e.id")
+    Stream<EventSummaryDto> streamSummaries();
+    
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = EXPORT_FETCH_SIZE))
+    @Query(SUMMARY_SELECT + "WHERE e.category = :category ORDER BY e.id")
+    Stream<EventSummaryDto> streamSummariesByCategory(@Param("category") String category);
+    
+    // Version lookups for conditional GETs. The set lookups return the narrow version rows of a
+    // whole listing in id order, for EventSetVersion to digest.
+    @Query("SELECT new com.campusconnect.dto.EventVersion(e.id, e.version, e.registrationDeadline, e.isActive) " +
+           "FROM Event e WHERE e.id = :eventId")
+    Optional<EventVersion> findVersionById(@Param("eventId") Long eventId);
+    
+    @Query("SELECT new com.campusconnect.dto.EventVersion(e.id, e.version, e.registrationDeadline, e.isActive) " +
+           "FROM Event e WHERE e.createdBy.id = :creatorId ORDER BY e.id")
+    List<EventVersion> findCreatorVersions(@Param("creatorId") Long creatorId);
+    
+    @Query("SELECT new com.campusconnect.dto.EventVersion(e.id, e.version, e.registrationDeadline, e.isActive) " +
+           "FROM Event e JOIN e.participants p WHERE p.id = :userId AND e.isActive = true ORDER BY e.id")
+    List<EventVersion> findParticipationVersions(@Param("userId") Long userId);
+    
+    // Batch deactivation: the filter only selects ids, then one set-based UPDATE flips them all.
+    // Bulk updates bypass the persistence context; Hibernate evicts the cached Event region.
+    @Query("SELECT e.id FROM Event e WHERE e.createdBy.id = :creatorId AND e.isActive = true " +
+           "AND (:category IS NULL OR e.category = :category) " +
+           "AND (:startsAfter IS NULL OR e.eventDateTime >= :startsAfter) " +
+           "AND (:startsBefore IS NULL OR e.eventDateTime < :startsBefore)")
+    List<Long> findActiveEventIdsByCreator(@Param("creatorId") Long creatorId, @Param("category") String category,
+                                           @Param("startsAfter") LocalDateTime startsAfter,
+                                           @Param("startsBefore") LocalDateTime startsBefore);
+    
+    @Modifying
+    @Query("UPDATE Event e SET e.isActive = false, e.updatedAt = :now, e.version = e.version + 1 " +
+           "WHERE e.id IN :eventIds AND e.isActive = true")
+    int deactivateAll(@Param("eventIds") Collection<Long> eventIds, @Param("now") LocalDateTime now);
+    
+    @Query("SELECT e.id FROM Event e WHERE e.queuedAdmission = true AND e.isActive = true")
+    List<Long> findQueuedAdmissionEventIds();
+    
+    // Seat bookkeeping for join/leave. The conditional UPDATE takes the event row lock and only
+    // succeeds while a seat is free, so concurrent joins can never overfill an event.
+    // These writes are native and declare NATIVE_WRITE_SPACE rather than the events table, so they
+    // do not clear the whole Event region; callers evict what they touched through EventCacheEvictor.
+    @Modifying
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = NATIVE_WRITE_SPACE))
+    @Query(value = "UPDATE events SET participant_count = participant_count + 1, version = version + 1 " +
+           "WHERE id = :eventId AND is_active = TRUE " +
+           "AND registration_deadline > :now AND (max_participants <= 0 OR participant_count < max_participants)",
+           nativeQuery = true)
+    int reserveSeat(@Param("eventId") Long eventId, @Param("now") LocalDateTime now);
+    
+    @Modifying
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = NATIVE_WRITE_SPACE))
+    @Query(value = "UPDATE events SET participant_count = participant_count - 1, version = version + 1 " +
+           "WHERE id = :eventId AND participant_count > 0", nativeQuery = true)
+    int releaseSeat(@Param("eventId") Long eventId);
+    
+    @Modifying
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = NATIVE_WRITE_SPACE))
+    @Query(value = "UPDATE events SET participant_count = participant_count + :delta, version = version + 1 " +
+           "WHERE id = :eventId", nativeQuery = true)
+    int addToParticipantCount(@Param("eventId") Long eventId, @Param("delta") int delta);
+    
+    // A participant's profile is part of the event detail, so editing it must move the event's ETag
+    @Query("SELECT e.id FROM Event e JOIN e.participants p WHERE p.id = :userId")
+    List<Long> findEventIdsByParticipant(@Param("userId") Long userId);
+    
+    @Modifying
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = NATIVE_WRITE_SPACE))
+    @Query(value = "UPDATE events SET version = version + 1 WHERE id IN (:eventIds)", nativeQuery = true)
+    int bumpVersions(@Param("eventIds") Collection<Long> eventIds);
+    
+    @Modifying
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = NATIVE_WRITE_SPACE))
+    @Query(value = "INSERT INTO event_participants (event_id, user_id) VALUES (:eventId, :userId)", nativeQuery = true)
+    int insertParticipant(@Param("eventId") Long eventId, @Param("userId") Long userId);
+    
+    @Modifying
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = NATIVE_WRITE_SPACE))
+    @Query(value = "DELETE FROM event_participants WHERE event_id = :eventId AND user_id = :userId", nativeQuery = true)
+    int deleteParticipant(@Param("eventId") Long eventId, @Param("userId") Long userId);
 }
@@ -1,14 +1,28 @@
 package com.campusconnect.repository;
 
+import com.campusconnect.dto.UserDto;
 import com.campusconnect.entity.User;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 @Repository
 public interface UserRepository extends JpaRepository<User, Long> {
     
+    // Directory rows never carry the password hash
+    String DIRECTORY_SELECT = "SELECT new com.campusconnect.dto.UserDto(u.id, u.username, u.email, u.firstName, " +
+            "u.lastName, u.role, u.studentId, u.department) FROM User u ";
+    
     Optional<User> findByUsername(String username);
     
     Optional<User> findByEmail(String email);
@@ -18,4 +32,42 @@ public interface UserRepository extends JpaRepository<User, Long> {
     boolean existsByEmail(String email);
     
     Optional<User> findByStudentId(String studentId);
+    
+    List<User> findByTokenVersionGreaterThanOrEnabledFalse(int tokenVersion);
+    
+    // Keyset pages of one role, optionally narrowed to a department, ordered by id. Each filter
+    // combination has its own first-page and after-cursor query, so every one of them is an
+    // equality prefix plus an id range on (role, id) or (role, department, id); optional
+    // parameters in OR predicates would leave the planner scanning the whole role.
+    @Query(DIRECTORY_SELECT + "WHERE u.role = :role ORDER BY u.id")
+    List<UserDto> findDirectoryEntriesByRole(@Param("role") User.Role role, Limit limit);
+    
+    @Query(DIRECTORY_SELECT + "WHERE u.role = :role AND u.id > :afterId ORDER BY u.id")
+    List<UserDto> findDirectoryEntriesByRoleAfter(@Param("role") User.Role role, @Param("afterId") Long afterId, Limit limit);
+    
+    @Query(DIRECTORY_SELECT + "WHERE u.role = :role AND u.department = :department ORDER BY u.id")
+    List<UserDto> findDirectoryEntriesByRoleAndDepartment(@Param("role") User.Role role, @Param("department") String department,
+                                                          Limit limit);
+    
+    @Query(DIRECTORY_SELECT + "WHERE u.role = :role AND u.department = :department AND u.id > :afterId ORDER BY u.id")
+    List<UserDto> findDirectoryEntriesByRoleAndDepartmentAfter(@Param("role") User.Role role, @Param("department") String department,
+                                                               @Param("afterId") Long afterId, Limit limit);
+    
+    @Query(DIRECTORY_SELECT + "WHERE u.id IN :ids")
+    List<UserDto> findDirectoryEntriesByIds(@Param("ids") Collection<Long> ids);
+    
+    @Query(DIRECTORY_SELECT + "WHERE u.studentId IN :studentIds")
+    List<UserDto> findDirectoryEntriesByStudentIds(@Param("studentIds") Collection<String> studentIds);
+    
+    @Query(DIRECTORY_SELECT)
+    List<UserDto> findAllDirectoryEntries();
+    
+    // Export cursors; must be consumed (and closed) inside a read-only transaction
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = EventRepository.EXPORT_FETCH_SIZE))
+    @Query(DIRECTORY_SELECT + "ORDER BY u.id")
+    Stream<UserDto> streamDirectoryEntries();
+    
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = EventRepository.EXPORT_FETCH_SIZE))
+    @Query(DIRECTORY_SELECT + "WHERE u.role = :role ORDER BY u.id")
+    Stream<UserDto> streamDirectoryEntriesByRole(@Param("role") User.Role role);
 }
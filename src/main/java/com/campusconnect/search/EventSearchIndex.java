@@ -0,0 +1,226 @@
+package com.campusconnect.search;
+
+import com.campusconnect.entity.Event;
+import com.campusconnect.repository.EventRepository;
+import com.campusconnect.service.EventChangedEvent;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * Inverted index over active events, ranked with BM25. Postings map each term to the
+ * events containing it and the (field-weighted) term frequency; a query intersects the
+ * postings of its terms starting from the rarest one, so the work done depends on how
+ * many events match rather than on catalog size.
+ */
+@Component
+public class EventSearchIndex {
+    
+    private static final double K1 = 1.2;
+    
+    private static final double B = 0.75;
+    
+    private static final int TITLE_WEIGHT = 3;
+    
+    private static final int CATEGORY_WEIGHT = 2;
+    
+    private static final int ORGANIZER_WEIGHT = 2;
+    
+    private static final int LOCATION_WEIGHT = 1;
+    
+    private static final int DESCRIPTION_WEIGHT = 1;
+    
+    // Best score first; ties broken by id so the order (and therefore the cursor) is stable
+    private static final Comparator<ScoredEvent> RANKING = Comparator
+            .comparingDouble(ScoredEvent::score).reversed()
+            .thenComparing(ScoredEvent::eventId);
+    
+    @Autowired
+    private EventRepository eventRepository;
+    
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    
+    private final Map<String, Map<Long, Integer>> postings = new HashMap<>();
+    
+    private final Map<Long, Map<String, Integer>> documents = new HashMap<>();
+    
+    private final Map<Long, Integer> documentLengths = new HashMap<>();
+    
+    private long totalLength;
+    
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuild() {
+        eventRepository.findByIsActiveTrue().forEach(this::index);
+    }
+    
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onEventChanged(EventChangedEvent change) {
+        if (change.getType() == EventChangedEvent.Type.PARTICIPANTS_CHANGED) {
+            return;
+        }
+        if (change.getType() == EventChangedEvent.Type.SAVED && change.getEvent().isActive()) {
+            index(change.getEvent());
+        } else {
+            remove(change.getEventId());
+        }
+    }
+    
+    public void index(Event event) {
+        Map<String, Integer> termFrequencies = new HashMap<>();
+        addField(termFrequencies, event.getTitle(), TITLE_WEIGHT);
+        addField(termFrequencies, event.getCategory(), CATEGORY_WEIGHT);
+        addField(termFrequencies, event.getOrganizer(), ORGANIZER_WEIGHT);
+        addField(termFrequencies, event.getLocation(), LOCATION_WEIGHT);
+        addField(termFrequencies, event.getDescription(), DESCRIPTION_WEIGHT);
+        int length = termFrequencies.values().stream().mapToInt(Integer::intValue).sum();
+        
+        lock.writeLock().lock();
+        try {
+            removeDocument(event.getId());
+            termFrequencies.forEach((term, frequency) ->
+                    postings.computeIfAbsent(term, key -> new HashMap<>()).put(event.getId(), frequency));
+            documents.put(event.getId(), termFrequencies);
+            documentLengths.put(event.getId(), length);
+            totalLength += length;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+    
+    public void remove(Long eventId) {
+        lock.writeLock().lock();
+        try {
+            removeDocument(eventId);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+    
+    /**
+     * Returns the ids of events matching every query term, best match first, continuing
+     * after the given cursor.
+     */
+    public SearchPage search(String query, String cursor, int size) {
+        List<String> terms = TextTokenizer.tokenize(query).stream().distinct().toList();
+        if (terms.isEmpty()) {
+            return new SearchPage(List.of(), null);
+        }
+        ScoredEvent after = decodeCursor(cursor);
+        
+        List<ScoredEvent> matches = new ArrayList<>();
+        lock.readLock().lock();
+        try {
+            List<Map<Long, Integer>> termPostings = new ArrayList<>();
+            for (String term : terms) {
+                Map<Long, Integer> posting = postings.get(term);
+                if (posting == null) {
+                    return new SearchPage(List.of(), null);
+                }
+                termPostings.add(posting);
+            }
+            termPostings.sort(Comparator.comparingInt(Map::size));
+            
+            int documentCount = documents.size();
+            double averageLength = (double) totalLength / documentCount;
+            candidates:
+            for (Long eventId : termPostings.get(0).keySet()) {
+                double score = 0;
+                int length = documentLengths.get(eventId);
+                for (Map<Long, Integer> posting : termPostings) {
+                    Integer frequency = posting.get(eventId);
+                    if (frequency == null) {
+                        continue candidates;
+                    }
+                    double idf = Math.log(1 + (documentCount - posting.size() + 0.5) / (posting.size() + 0.5));
+                    score += idf * frequency * (K1 + 1) / (frequency + K1 * (1 - B + B * length / averageLength));
+                }
+                ScoredEvent match = new ScoredEvent(eventId, score);
+                if (after == null || RANKING.compare(match, after) > 0) {
+                    matches.add(match);
+                }
+            }
+        } finally {
+            lock.readLock().unlock();
+        }
+        
+        matches.sort(RANKING);
+        boolean hasMore = matches.size() > size;
+        List<ScoredEvent> page = hasMore ? matches.subList(0, size) : matches;
+        String nextCursor = hasMore ? encodeCursor(page.get(page.size() - 1)) : null;
+        return new SearchPage(page.stream().map(ScoredEvent::eventId).toList(), nextCursor);
+    }
+    
+    private static void addField(Map<String, Integer> termFrequencies, String text, int weight) {
+        for (String token : TextTokenizer.tokenize(text)) {
+            termFrequencies.merge(token, weight, Integer::sum);
+        }
+    }
+    
+    private void removeDocument(Long eventId) {
+        Map<String, Integer> previous = documents.remove(eventId);
+        if (previous == null) {
+            return;
+        }
+        for (String term : previous.keySet()) {
+            Map<Long, Integer> posting = postings.get(term);
+            posting.remove(eventId);
+            if (posting.isEmpty()) {
+                postings.remove(term);
+            }
+        }
+        totalLength -= documentLengths.remove(eventId);
+    }
+    
+    private static String encodeCursor(ScoredEvent last) {
+        String raw = last.score() + "|" + last.eventId();
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+    
+    private static ScoredEvent decodeCursor(String cursor) {
+        if (cursor == null || cursor.isBlank()) {
+            return null;
+        }
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            int separator = raw.lastIndexOf('|');
+            return new ScoredEvent(Long.parseLong(raw.substring(separator + 1)),
+                    Double.parseDouble(raw.substring(0, separator)));
+        } catch (IllegalArgumentException | IndexOutOfBoundsException e) {
+            throw new RuntimeException("Invalid cursor");
+        }
+    }
+    
+    private record ScoredEvent(Long eventId, double score) {}
+    
+    public static class SearchPage {
+        
+        private final List<Long> eventIds;
+        
+        private final String nextCursor;
+        
+        public SearchPage(List<Long> eventIds, String nextCursor) {
+            this.eventIds = eventIds;
+            this.nextCursor = nextCursor;
+        }
+        
+        public List<Long> getEventIds() {
+            return eventIds;
+        }
+        
+        public String getNextCursor() {
+            return nextCursor;
+        }
+    }
+}
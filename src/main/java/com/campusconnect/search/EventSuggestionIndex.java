@@ -0,0 +1,217 @@
+package com.campusconnect.search;
+
+import com.campusconnect.dto.EventSuggestionDto;
+import com.campusconnect.entity.Event;
+import com.campusconnect.repository.EventRepository;
+import com.campusconnect.service.EventChangedEvent;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableSet;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.ConcurrentSkipListSet;
+import java.util.function.Predicate;
+
+/**
+ * Prefix autocomplete over the titles, organizers and locations of active events.
+ *
+ * Every word-boundary suffix of a field ("campus tech meetup", "tech meetup", "meetup") is a
+ * key in a sorted map, so a prefix lookup is a single range seek. Entries carry everything a
+ * suggestion needs, so lookups never touch the database.
+ *
+ * One- to three-character prefixes match a large share of all keys, so ranking their whole range
+ * would cost time in proportion to the catalog. Each of them also has its own set of events in
+ * date order; a lookup finds now in it and walks outwards in both directions, which visits only
+ * the events it returns. A longer prefix usually matches a few keys and its range is ranked
+ * directly; once the range passes RANGE_SCAN_LIMIT keys, the prefix is common enough that
+ * walking its three-character set and skipping non-matching events is the cheaper route.
+ */
+@Component
+public class EventSuggestionIndex {
+    
+    private static final char KEY_SEPARATOR = '\u0000';
+    
+    private static final int SHORT_PREFIX_LENGTH = 3;
+    
+    private static final int RANGE_SCAN_LIMIT = 256;
+    
+    @Autowired
+    private EventRepository eventRepository;
+    
+    private final ConcurrentSkipListMap<String, Long> keys = new ConcurrentSkipListMap<>();
+    
+    private final Map<Long, IndexedEvent> events = new ConcurrentHashMap<>();
+    
+    // Short prefix -> the events with a key starting with it, by eventDateTime
+    private final Map<String, ConcurrentSkipListSet<DateKey>> shortPrefixes = new ConcurrentHashMap<>();
+    
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuild() {
+        eventRepository.findByIsActiveTrue().forEach(this::index);
+    }
+    
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onEventChanged(EventChangedEvent change) {
+        if (change.getType() == EventChangedEvent.Type.PARTICIPANTS_CHANGED) {
+            return;
+        }
+        if (change.getType() == EventChangedEvent.Type.SAVED && change.getEvent().isActive()) {
+            index(change.getEvent());
+        } else {
+            remove(change.getEventId());
+        }
+    }
+    
+    public synchronized void index(Event event) {
+        remove(event.getId());
+        
+        Set<String> suffixes = new HashSet<>();
+        addSuffixes(suffixes, event.getTitle());
+        addSuffixes(suffixes, event.getOrganizer());
+        addSuffixes(suffixes, event.getLocation());
+        Set<String> eventKeys = new HashSet<>();
+        Set<String> eventPrefixes = new HashSet<>();
+        for (String suffix : suffixes) {
+            eventKeys.add(suffix + KEY_SEPARATOR + event.getId());
+            for (int length = 1; length <= Math.min(SHORT_PREFIX_LENGTH, suffix.length()); length++) {
+                eventPrefixes.add(suffix.substring(0, length));
+            }
+        }
+        
+        EventSuggestionDto suggestion = new EventSuggestionDto(event.getId(), event.getTitle(), event.getOrganizer(),
+                event.getLocation(), event.getEventDateTime());
+        DateKey dateKey = new DateKey(event.getEventDateTime(), event.getId());
+        events.put(event.getId(), new IndexedEvent(suggestion, eventKeys, eventPrefixes, dateKey));
+        eventKeys.forEach(key -> keys.put(key, event.getId()));
+        eventPrefixes.forEach(prefix -> shortPrefixes.computeIfAbsent(prefix, key -> new ConcurrentSkipListSet<>()).add(dateKey));
+    }
+    
+    public synchronized void remove(Long eventId) {
+        IndexedEvent previous = events.remove(eventId);
+        if (previous != null) {
+            previous.keys().forEach(keys::remove);
+            for (String prefix : previous.prefixes()) {
+                ConcurrentSkipListSet<DateKey> prefixEvents = shortPrefixes.get(prefix);
+                prefixEvents.remove(previous.dateKey());
+                if (prefixEvents.isEmpty()) {
+                    shortPrefixes.remove(prefix);
+                }
+            }
+        }
+    }
+    
+    /**
+     * Returns up to limit events with a title, organizer or location word starting with the
+     * prefix, closest eventDateTime first.
+     */
+    public List<EventSuggestionDto> suggest(String prefix, int limit) {
+        String normalized = String.join(" ", TextTokenizer.words(prefix));
+        if (normalized.isEmpty()) {
+            return List.of();
+        }
+        
+        LocalDateTime now = LocalDateTime.now();
+        if (normalized.length() <= SHORT_PREFIX_LENGTH) {
+            return closestTo(now, shortPrefixes.get(normalized), limit, event -> true);
+        }
+        
+        List<Long> matches = new ArrayList<>();
+        for (Long eventId : keys.subMap(normalized, true, normalized + Character.MAX_VALUE, false).values()) {
+            if (matches.size() == RANGE_SCAN_LIMIT) {
+                return closestTo(now, shortPrefixes.get(normalized.substring(0, SHORT_PREFIX_LENGTH)), limit,
+                        event -> event.matches(normalized));
+            }
+            matches.add(eventId);
+        }
+        
+        Comparator<EventSuggestionDto> byProximity = Comparator.comparingLong(
+                suggestion -> Math.abs(Duration.between(now, suggestion.getEventDateTime()).getSeconds()));
+        // Max-heap on distance holding the best `limit` suggestions seen so far
+        PriorityQueue<EventSuggestionDto> best = new PriorityQueue<>(limit + 1, byProximity.reversed());
+        Set<Long> seen = new HashSet<>();
+        
+        for (Long eventId : matches) {
+            IndexedEvent event = events.get(eventId);
+            if (event == null || !seen.add(eventId)) {
+                continue;
+            }
+            best.offer(event.suggestion());
+            if (best.size() > limit) {
+                best.poll();
+            }
+        }
+        
+        List<EventSuggestionDto> suggestions = new ArrayList<>(best);
+        suggestions.sort(byProximity);
+        return suggestions;
+    }
+    
+    // Merges the events before and after now, nearest first, until limit of them pass the filter
+    private List<EventSuggestionDto> closestTo(LocalDateTime now, NavigableSet<DateKey> prefixEvents, int limit,
+                                               Predicate<IndexedEvent> filter) {
+        if (prefixEvents == null) {
+            return List.of();
+        }
+        DateKey nowKey = new DateKey(now, Long.MIN_VALUE);
+        Iterator<DateKey> later = prefixEvents.tailSet(nowKey, true).iterator();
+        Iterator<DateKey> earlier = prefixEvents.headSet(nowKey, false).descendingIterator();
+        DateKey nextLater = later.hasNext() ? later.next() : null;
+        DateKey nextEarlier = earlier.hasNext() ? earlier.next() : null;
+        
+        List<EventSuggestionDto> suggestions = new ArrayList<>(limit);
+        while (suggestions.size() < limit && (nextLater != null || nextEarlier != null)) {
+            DateKey closest;
+            if (nextEarlier == null || (nextLater != null
+                    && Duration.between(now, nextLater.time()).compareTo(Duration.between(nextEarlier.time(), now)) <= 0)) {
+                closest = nextLater;
+                nextLater = later.hasNext() ? later.next() : null;
+            } else {
+                closest = nextEarlier;
+                nextEarlier = earlier.hasNext() ? earlier.next() : null;
+            }
+            IndexedEvent event = events.get(closest.eventId());
+            if (event != null && filter.test(event)) {
+                suggestions.add(event.suggestion());
+            }
+        }
+        return suggestions;
+    }
+    
+    private static void addSuffixes(Set<String> suffixes, String text) {
+        List<String> words = TextTokenizer.words(text);
+        for (int start = 0; start < words.size(); start++) {
+            suffixes.add(String.join(" ", words.subList(start, words.size())));
+        }
+    }
+    
+    private record IndexedEvent(EventSuggestionDto suggestion, Set<String> keys, Set<String> prefixes, DateKey dateKey) {
+        
+        boolean matches(String prefix) {
+            return keys.stream().anyMatch(key -> key.startsWith(prefix));
+        }
+    }
+    
+    private record DateKey(LocalDateTime time, Long eventId) implements Comparable<DateKey> {
+        
+        static final Comparator<DateKey> ORDER = Comparator.comparing(DateKey::time).thenComparing(DateKey::eventId);
+        
+        @Override
+        public int compareTo(DateKey other) {
+            return ORDER.compare(this, other);
+        }
+    }
+}
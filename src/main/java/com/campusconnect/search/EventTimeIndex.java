@@ -0,0 +1,167 @@
+package com.campusconnect.search;
+
+import com.campusconnect.dto.CursorPage;
+import com.campusconnect.dto.EventCursor;
+import com.campusconnect.entity.Event;
+import com.campusconnect.repository.EventRepository;
+import com.campusconnect.service.EventChangedEvent;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableSet;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListSet;
+
+/**
+ * Time-ordered index over active events for calendar-style range queries. Each event is a key
+ * in two sorted sets, one ordered by start time and one by registration deadline, so a range
+ * is a single seek followed by an in-order walk.
+ *
+ * Nothing polls for expiry. Reads drop start times and deadlines older than the retention
+ * window, so past ranges can be queried on either field for that long.
+ */
+@Component
+public class EventTimeIndex {
+    
+    public enum Field {
+        START, DEADLINE;
+        
+        public static Field fromParam(String field) {
+            for (Field candidate : values()) {
+                if (candidate.name().equalsIgnoreCase(field)) {
+                    return candidate;
+                }
+            }
+            throw new RuntimeException("Unsupported range field: " + field);
+        }
+    }
+    
+    @Autowired
+    private EventRepository eventRepository;
+    
+    @Value("${listing.time-index-retention-days}")
+    private long retentionDays;
+    
+    private final ConcurrentSkipListSet<TimeKey> byStart = new ConcurrentSkipListSet<>();
+    
+    private final ConcurrentSkipListSet<TimeKey> byDeadline = new ConcurrentSkipListSet<>();
+    
+    private final Map<Long, IndexedEvent> events = new ConcurrentHashMap<>();
+    
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuild() {
+        eventRepository.findByIsActiveTrue().forEach(this::index);
+    }
+    
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onEventChanged(EventChangedEvent change) {
+        if (change.getType() == EventChangedEvent.Type.PARTICIPANTS_CHANGED) {
+            return;
+        }
+        if (change.getType() == EventChangedEvent.Type.SAVED && change.getEvent().isActive()) {
+            index(change.getEvent());
+        } else {
+            remove(change.getEventId());
+        }
+    }
+    
+    public synchronized void index(Event event) {
+        remove(event.getId());
+        
+        IndexedEvent indexed = new IndexedEvent(new TimeKey(event.getEventDateTime(), event.getId()),
+                new TimeKey(event.getRegistrationDeadline(), event.getId()));
+        events.put(event.getId(), indexed);
+        byStart.add(indexed.start());
+        byDeadline.add(indexed.deadline());
+    }
+    
+    public synchronized void remove(Long eventId) {
+        IndexedEvent previous = events.remove(eventId);
+        if (previous != null) {
+            byStart.remove(previous.start());
+            byDeadline.remove(previous.deadline());
+        }
+    }
+    
+    /**
+     * Returns the ids of events whose start time (or registration deadline) falls in
+     * [from, to), in time order, continuing after the given cursor.
+     */
+    public CursorPage<Long> range(Field field, LocalDateTime from, LocalDateTime to, String cursor, int size) {
+        dropExpired();
+        EventCursor after = EventCursor.decode(cursor);
+        TimeKey lower = new TimeKey(from, Long.MIN_VALUE);
+        if (after != null) {
+            // Resume just past the cursor, unless the cursor lies before the requested range
+            TimeKey resume = new TimeKey(after.getTimestamp(), after.getId() + 1);
+            if (resume.compareTo(lower) > 0) {
+                lower = resume;
+            }
+        }
+        TimeKey upper = new TimeKey(to, Long.MIN_VALUE);
+        if (lower.compareTo(upper) >= 0) {
+            return new CursorPage<>(List.of(), null);
+        }
+        NavigableSet<TimeKey> keys = (field == Field.START ? byStart : byDeadline).subSet(lower, true, upper, false);
+        
+        List<Long> eventIds = new ArrayList<>(size);
+        TimeKey last = null;
+        for (TimeKey key : keys) {
+            if (eventIds.size() == size) {
+                return new CursorPage<>(eventIds, new EventCursor(last.time(), last.eventId()).encode());
+            }
+            eventIds.add(key.eventId());
+            last = key;
+        }
+        return new CursorPage<>(eventIds, null);
+    }
+    
+    // Only takes the index lock when the oldest entry of either set has actually expired
+    private void dropExpired() {
+        LocalDateTime cutoff = LocalDateTime.now().minusDays(retentionDays);
+        if (!isExpired(byDeadline, cutoff) && !isExpired(byStart, cutoff)) {
+            return;
+        }
+        
+        synchronized (this) {
+            // A deadline comes before its event's start, so it may expire while the start is kept
+            while (isExpired(byDeadline, cutoff)) {
+                byDeadline.pollFirst();
+            }
+            while (isExpired(byStart, cutoff)) {
+                IndexedEvent expired = events.remove(byStart.pollFirst().eventId());
+                if (expired != null) {
+                    byDeadline.remove(expired.deadline());
+                }
+            }
+        }
+    }
+    
+    private static boolean isExpired(ConcurrentSkipListSet<TimeKey> keys, LocalDateTime cutoff) {
+        // Iterating instead of first(), which throws if another thread empties the set
+        Iterator<TimeKey> iterator = keys.iterator();
+        return iterator.hasNext() && iterator.next().time().isBefore(cutoff);
+    }
+    
+    private record TimeKey(LocalDateTime time, Long eventId) implements Comparable<TimeKey> {
+        
+        static final Comparator<TimeKey> ORDER = Comparator.comparing(TimeKey::time).thenComparing(TimeKey::eventId);
+        
+        @Override
+        public int compareTo(TimeKey other) {
+            return ORDER.compare(this, other);
+        }
+    }
+    
+    private record IndexedEvent(TimeKey start, TimeKey deadline) {}
+}
@@ -0,0 +1,50 @@
+package com.campusconnect.search;
+
+import java.text.Normalizer;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+import java.util.regex.Pattern;
+
+/**
+ * Shared text normalization for the in-memory event indexes: accents are folded, text is
+ * lower-cased and split on anything that is not a letter or digit.
+ */
+public final class TextTokenizer {
+    
+    private static final Pattern SEPARATORS = Pattern.compile("[^\\p{L}\\p{N}]+");
+    
+    private static final Pattern DIACRITICS = Pattern.compile("\\p{M}+");
+    
+    private static final Set<String> STOP_WORDS = Set.of(
+            "a", "an", "and", "are", "as", "at", "be", "by", "for", "from", "in", "is", "of", "on", "or",
+            "the", "to", "with");
+    
+    private TextTokenizer() {}
+    
+    public static String normalize(String text) {
+        if (text == null) {
+            return "";
+        }
+        String folded = DIACRITICS.matcher(Normalizer.normalize(text, Normalizer.Form.NFD)).replaceAll("");
+        return folded.toLowerCase(Locale.ROOT).trim();
+    }
+    
+    // All words in order, stop words included; used for prefix matching
+    public static List<String> words(String text) {
+        List<String> words = new ArrayList<>();
+        for (String word : SEPARATORS.split(normalize(text))) {
+            if (!word.isEmpty()) {
+                words.add(word);
+            }
+        }
+        return words;
+    }
+    
+    public static List<String> tokenize(String text) {
+        List<String> tokens = words(text);
+        tokens.removeIf(STOP_WORDS::contains);
+        return tokens;
+    }
+}
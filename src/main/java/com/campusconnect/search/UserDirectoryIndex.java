@@ -0,0 +1,147 @@
+package com.campusconnect.search;
+
+import com.campusconnect.dto.UserDto;
+import com.campusconnect.repository.UserRepository;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+
+/**
+ * Prefix index for the admin user directory over first name, last name, full name, email and
+ * student id. Keys are "normalized value \0 userId" in a sorted map, so a lookup seeks to the
+ * prefix and walks forward only as far as one page needs.
+ */
+@Component
+public class UserDirectoryIndex {
+    
+    private static final char KEY_SEPARATOR = '\u0000';
+    
+    @Autowired
+    private UserRepository userRepository;
+    
+    private final ConcurrentSkipListMap<String, Long> keys = new ConcurrentSkipListMap<>();
+    
+    // Every key of a user, in sorted order; used for removal and to report each user once
+    private final Map<Long, TreeSet<String>> userKeys = new ConcurrentHashMap<>();
+    
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuild() {
+        userRepository.findAllDirectoryEntries().forEach(this::index);
+    }
+    
+    public synchronized void index(UserDto user) {
+        remove(user.getId());
+        
+        TreeSet<String> entryKeys = new TreeSet<>();
+        addKey(entryKeys, user.getFirstName(), user.getId());
+        addKey(entryKeys, user.getLastName(), user.getId());
+        addKey(entryKeys, user.getFirstName() + " " + user.getLastName(), user.getId());
+        addKey(entryKeys, user.getEmail(), user.getId());
+        addKey(entryKeys, user.getStudentId(), user.getId());
+        
+        userKeys.put(user.getId(), entryKeys);
+        entryKeys.forEach(key -> keys.put(key, user.getId()));
+    }
+    
+    public synchronized void remove(Long userId) {
+        Set<String> previous = userKeys.remove(userId);
+        if (previous != null) {
+            previous.forEach(keys::remove);
+        }
+    }
+    
+    /**
+     * Returns the ids of users with a name, email or student id starting with the prefix, in
+     * alphabetical order of the matching value, continuing after the given cursor.
+     */
+    public DirectoryPage search(String prefix, String cursor, int size) {
+        String normalized = TextTokenizer.normalize(prefix);
+        if (normalized.isEmpty()) {
+            return new DirectoryPage(List.of(), null);
+        }
+        
+        String after = decodeCursor(cursor);
+        NavigableMap<String, Long> range = keys.subMap(normalized, true, normalized + Character.MAX_VALUE, false);
+        if (after != null) {
+            range = range.tailMap(after, false);
+        }
+        
+        List<Long> userIds = new ArrayList<>(size);
+        String lastKey = null;
+        for (Map.Entry<String, Long> entry : range.entrySet()) {
+            // A user matching on several fields is reported at its first matching key only
+            if (!entry.getKey().equals(firstMatchingKey(entry.getValue(), normalized))) {
+                continue;
+            }
+            if (userIds.size() == size) {
+                return new DirectoryPage(userIds, encodeCursor(lastKey));
+            }
+            userIds.add(entry.getValue());
+            lastKey = entry.getKey();
+        }
+        return new DirectoryPage(userIds, null);
+    }
+    
+    private String firstMatchingKey(Long userId, String prefix) {
+        TreeSet<String> entryKeys = userKeys.get(userId);
+        if (entryKeys == null) {
+            return null;
+        }
+        String first = entryKeys.ceiling(prefix);
+        return first != null && first.startsWith(prefix) ? first : null;
+    }
+    
+    private static void addKey(Set<String> entryKeys, String value, Long userId) {
+        String normalized = TextTokenizer.normalize(value);
+        if (!normalized.isEmpty()) {
+            entryKeys.add(normalized + KEY_SEPARATOR + userId);
+        }
+    }
+    
+    private static String encodeCursor(String key) {
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(key.getBytes(StandardCharsets.UTF_8));
+    }
+    
+    private static String decodeCursor(String cursor) {
+        if (cursor == null || cursor.isBlank()) {
+            return null;
+        }
+        try {
+            return new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+        } catch (IllegalArgumentException e) {
+            throw new RuntimeException("Invalid cursor");
+        }
+    }
+    
+    public static class DirectoryPage {
+        
+        private final List<Long> userIds;
+        
+        private final String nextCursor;
+        
+        public DirectoryPage(List<Long> userIds, String nextCursor) {
+            this.userIds = userIds;
+            this.nextCursor = nextCursor;
+        }
+        
+        public List<Long> getUserIds() {
+            return userIds;
+        }
+        
+        public String getNextCursor() {
+            return nextCursor;
+        }
+    }
+}
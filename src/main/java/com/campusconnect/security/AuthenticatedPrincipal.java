@@ -0,0 +1,81 @@
+package com.campusconnect.security;
+
+import com.campusconnect.entity.User;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.security.core.userdetails.UserDetails;
+
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Immutable snapshot of the fields authorization needs, so an authenticated request can be
+ * served without loading the User entity. Carries no password.
+ */
+public final class AuthenticatedPrincipal implements UserDetails {
+    
+    private final Long id;
+    
+    private final String username;
+    
+    private final User.Role role;
+    
+    private final boolean enabled;
+    
+    private final List<GrantedAuthority> authorities;
+    
+    public AuthenticatedPrincipal(Long id, String username, User.Role role, boolean enabled) {
+        this.id = id;
+        this.username = username;
+        this.role = role;
+        this.enabled = enabled;
+        this.authorities = List.of(new SimpleGrantedAuthority("ROLE_" + role.name()));
+    }
+    
+    public static AuthenticatedPrincipal fromUser(User user) {
+        return new AuthenticatedPrincipal(user.getId(), user.getUsername(), user.getRole(), user.isEnabled());
+    }
+    
+    public Long getId() {
+        return id;
+    }
+    
+    @Override
+    public String getUsername() {
+        return username;
+    }
+    
+    public User.Role getRole() {
+        return role;
+    }
+    
+    @Override
+    public String getPassword() {
+        return null;
+    }
+    
+    @Override
+    public Collection<? extends GrantedAuthority> getAuthorities() {
+        return authorities;
+    }
+    
+    @Override
+    public boolean isAccountNonExpired() {
+        return true;
+    }
+    
+    @Override
+    public boolean isAccountNonLocked() {
+        return true;
+    }
+    
+    @Override
+    public boolean isCredentialsNonExpired() {
+        return true;
+    }
+    
+    @Override
+    public boolean isEnabled() {
+        return enabled;
+    }
+}
@@ -0,0 +1,40 @@
+package com.campusconnect.security;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Fixed-capacity map that drops its least recently used entry when a new one would exceed the
+ * capacity, so a full cache still takes new entries and every operation is O(1). Reads reorder
+ * the entries as well, so all access is synchronized; each call holds the lock for one hash
+ * lookup and a few pointer updates.
+ */
+public class BoundedCache<K, V> {
+    
+    private final Map<K, V> entries;
+    
+    public BoundedCache(int maxSize) {
+        this.entries = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<K, V> eldest) {
+                return size() > maxSize;
+            }
+        };
+    }
+    
+    public synchronized V get(K key) {
+        return entries.get(key);
+    }
+    
+    public synchronized void put(K key, V value) {
+        entries.put(key, value);
+    }
+    
+    public synchronized void remove(K key) {
+        entries.remove(key);
+    }
+    
+    public synchronized int size() {
+        return entries.size();
+    }
+}
@@ -1,15 +1,17 @@
 package com.campusconnect.security;
 
+import com.campusconnect.entity.User;
 import com.campusconnect.service.JwtService;
 import com.campusconnect.service.UserService;
+import io.jsonwebtoken.Claims;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.context.SecurityContextHolder;
-import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.security.web.authentication.WebAuthenticationDetailsSource;
 import org.springframework.stereotype.Component;
 import org.springframework.web.filter.OncePerRequestFilter;
@@ -25,6 +27,12 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
     @Autowired
     private UserService userService;
     
+    @Autowired
+    private TokenVersionRegistry tokenVersions;
+    
+    @Value("${auth.stateless-claims}")
+    private boolean statelessClaims;
+    
     @Override
     protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
             throws ServletException, IOException {
@@ -40,16 +48,21 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
         
         jwt = authHeader.substring(7);
         try {
-            username = jwtService.extractUsername(jwt);
+            // Throws if the signature is invalid or the token has expired
+            Claims claims = jwtService.verifyToken(jwt);
+            username = claims.getSubject();
             
             if (username != null && SecurityContextHolder.getContext().getAuthentication() == null) {
-                UserDetails userDetails = userService.loadUserByUsername(username);
+                AuthenticatedPrincipal principal = principalFromClaims(claims);
+                if (principal == null) {
+                    principal = userService.loadPrincipal(username);
+                }
                 
-                if (jwtService.validateToken(jwt, userDetails)) {
+                if (principal.isEnabled() && isTokenVersionCurrent(claims)) {
                     UsernamePasswordAuthenticationToken authToken = new UsernamePasswordAuthenticationToken(
-                            userDetails,
+                            principal,
                             null,
-                            userDetails.getAuthorities()
+                            principal.getAuthorities()
                     );
                     authToken.setDetails(new WebAuthenticationDetailsSource().buildDetails(request));
                     SecurityContextHolder.getContext().setAuthentication(authToken);
@@ -62,4 +75,21 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
         
         filterChain.doFilter(request, response);
     }
+    
+    // In stateless mode the token's own claims identify the user and the registry says whether it is
+    // still enabled; older tokens without the claims fall back to a lookup
+    private AuthenticatedPrincipal principalFromClaims(Claims claims) {
+        Long userId = claims.get(JwtService.USER_ID_CLAIM, Long.class);
+        String role = claims.get(JwtService.ROLE_CLAIM, String.class);
+        if (!statelessClaims || userId == null || role == null) {
+            return null;
+        }
+        return new AuthenticatedPrincipal(userId, claims.getSubject(), User.Role.valueOf(role), !tokenVersions.isRevoked(userId));
+    }
+    
+    private boolean isTokenVersionCurrent(Claims claims) {
+        Long userId = claims.get(JwtService.USER_ID_CLAIM, Long.class);
+        Integer version = claims.get(JwtService.TOKEN_VERSION_CLAIM, Integer.class);
+        return userId == null || version == null || tokenVersions.isCurrent(userId, version);
+    }
 }
@@ -0,0 +1,60 @@
+package com.campusconnect.security;
+
+import com.campusconnect.dto.CacheStatsDto;
+import jakarta.annotation.PostConstruct;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+
+/**
+ * Username -> AuthenticatedPrincipal, so the JWT filter does not read the users table on
+ * every request. Entries live for a fixed TTL and are invalidated explicitly by UserService
+ * whenever a user is updated or deleted. When the cache is full, the least recently used
+ * principal makes room for the new one.
+ */
+@Component
+public class PrincipalCache {
+    
+    @Value("${auth.principal-cache.ttl-ms}")
+    private long ttlMs;
+    
+    @Value("${auth.principal-cache.max-size}")
+    private int maxSize;
+    
+    private BoundedCache<String, Entry> entries;
+    
+    private final LongAdder hits = new LongAdder();
+    
+    private final LongAdder misses = new LongAdder();
+    
+    @PostConstruct
+    void init() {
+        entries = new BoundedCache<>(maxSize);
+    }
+    
+    public AuthenticatedPrincipal get(String username, Function<String, AuthenticatedPrincipal> loader) {
+        long now = System.currentTimeMillis();
+        Entry entry = entries.get(username);
+        if (entry != null && entry.expiresAt > now) {
+            hits.increment();
+            return entry.principal;
+        }
+        
+        misses.increment();
+        AuthenticatedPrincipal principal = loader.apply(username);
+        entries.put(username, new Entry(principal, now + ttlMs));
+        return principal;
+    }
+    
+    public void invalidate(String username) {
+        entries.remove(username);
+    }
+    
+    public CacheStatsDto getStats() {
+        return new CacheStatsDto("principals", entries.size(), hits.sum(), misses.sum());
+    }
+    
+    private record Entry(AuthenticatedPrincipal principal, long expiresAt) {}
+}
@@ -0,0 +1,50 @@
+package com.campusconnect.security;
+
+import com.campusconnect.repository.UserRepository;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Minimum accepted token version per user. Only users whose tokens were ever revoked have an
+ * entry, so the map stays small; a token whose "ver" claim is below the entry is rejected.
+ * Disabled and deleted users are revoked outright, which is how the stateless filter learns
+ * about them without a users lookup.
+ */
+@Component
+public class TokenVersionRegistry {
+    
+    // Disabled or deleted users: no token version is accepted
+    private static final int REVOKED = Integer.MAX_VALUE;
+    
+    @Autowired
+    private UserRepository userRepository;
+    
+    private final Map<Long, Integer> minimumVersions = new ConcurrentHashMap<>();
+    
+    @EventListener(ApplicationReadyEvent.class)
+    public void load() {
+        userRepository.findByTokenVersionGreaterThanOrEnabledFalse(0)
+                .forEach(user -> minimumVersions.put(user.getId(), user.isEnabled() ? user.getTokenVersion() : REVOKED));
+    }
+    
+    public boolean isCurrent(Long userId, int tokenVersion) {
+        return tokenVersion >= minimumVersions.getOrDefault(userId, 0);
+    }
+    
+    public boolean isRevoked(Long userId) {
+        return minimumVersions.getOrDefault(userId, 0) == REVOKED;
+    }
+    
+    public void setMinimumVersion(Long userId, int tokenVersion) {
+        minimumVersions.put(userId, tokenVersion);
+    }
+    
+    public void revokeAll(Long userId) {
+        minimumVersions.put(userId, REVOKED);
+    }
+}
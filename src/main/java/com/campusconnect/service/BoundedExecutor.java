@@ -0,0 +1,121 @@
+package com.campusconnect.service;
+
+import com.campusconnect.dto.ExecutorStatsDto;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+/**
+ * Fixed-size pool with a bounded queue that rejects immediately when full, instead of letting
+ * callers pile up. Records how long tasks wait in the queue and how long they run.
+ */
+public class BoundedExecutor {
+    
+    private final String name;
+    
+    private final ThreadPoolExecutor executor;
+    
+    private final LongAdder completed = new LongAdder();
+    
+    private final LongAdder rejected = new LongAdder();
+    
+    private final LongAdder totalQueueNanos = new LongAdder();
+    
+    private final LongAdder totalRunNanos = new LongAdder();
+    
+    private final AtomicLong maxQueueNanos = new AtomicLong();
+    
+    private final AtomicLong maxRunNanos = new AtomicLong();
+    
+    public BoundedExecutor(String name, int threads, int queueCapacity) {
+        this.name = name;
+        this.executor = new ThreadPoolExecutor(threads, threads, 0, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity), new CustomizableThreadFactory(name + "-"),
+                new ThreadPoolExecutor.AbortPolicy());
+    }
+    
+    /**
+     * Runs the task on the pool. Throws RejectedExecutionException right away when every thread
+     * is busy and the queue is full.
+     */
+    public <T> CompletableFuture<T> submit(Supplier<T> task) {
+        long submittedAt = System.nanoTime();
+        try {
+            return CompletableFuture.supplyAsync(() -> {
+                long startedAt = System.nanoTime();
+                try {
+                    return task.get();
+                } finally {
+                    long finishedAt = System.nanoTime();
+                    record(startedAt - submittedAt, finishedAt - startedAt);
+                }
+            }, executor);
+        } catch (RejectedExecutionException e) {
+            rejected.increment();
+            throw e;
+        }
+    }
+    
+    /**
+     * Publishes busy threads, queue depth and rejections as worker_pool_* meters tagged with
+     * the pool name.
+     */
+    public void bindTo(MeterRegistry meterRegistry) {
+        Gauge.builder("worker.pool.active", executor, ThreadPoolExecutor::getActiveCount)
+                .description("Threads running a task")
+                .tag("pool", name)
+                .register(meterRegistry);
+        Gauge.builder("worker.pool.queued", executor, pool -> pool.getQueue().size())
+                .description("Tasks waiting in the queue")
+                .tag("pool", name)
+                .register(meterRegistry);
+        FunctionCounter.builder("worker.pool.rejected", rejected, LongAdder::sum)
+                .description("Tasks rejected because the queue was full")
+                .tag("pool", name)
+                .register(meterRegistry);
+    }
+    
+    public void shutdown() {
+        executor.shutdown();
+    }
+    
+    public ExecutorStatsDto getStats() {
+        long count = completed.sum();
+        ExecutorStatsDto stats = new ExecutorStatsDto();
+        stats.setName(name);
+        stats.setThreads(executor.getMaximumPoolSize());
+        stats.setActiveThreads(executor.getActiveCount());
+        stats.setSaturation((double) executor.getActiveCount() / executor.getMaximumPoolSize());
+        stats.setQueueDepth(executor.getQueue().size());
+        stats.setQueueCapacity(executor.getQueue().size() + executor.getQueue().remainingCapacity());
+        stats.setCompleted(count);
+        stats.setRejected(rejected.sum());
+        stats.setAvgQueueMs(count == 0 ? 0 : toMillis(totalQueueNanos.sum()) / count);
+        stats.setMaxQueueMs(toMillis(maxQueueNanos.get()));
+        stats.setAvgRunMs(count == 0 ? 0 : toMillis(totalRunNanos.sum()) / count);
+        stats.setMaxRunMs(toMillis(maxRunNanos.get()));
+        return stats;
+    }
+    
+    private void record(long queueNanos, long runNanos) {
+        completed.increment();
+        totalQueueNanos.add(queueNanos);
+        totalRunNanos.add(runNanos);
+        maxQueueNanos.accumulateAndGet(queueNanos, Math::max);
+        maxRunNanos.accumulateAndGet(runNanos, Math::max);
+    }
+    
+    private static double toMillis(long nanos) {
+        return nanos / 1_000_000.0;
+    }
+}
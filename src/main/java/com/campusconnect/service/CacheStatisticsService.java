@@ -0,0 +1,44 @@
+package com.campusconnect.service;
+
+import com.campusconnect.dto.CacheStatsDto;
+import com.campusconnect.security.PrincipalCache;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.CacheRegionStatistics;
+import org.hibernate.stat.Statistics;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Collects hit/miss counters from the application's own caches and from every Hibernate
+ * second-level and query cache region.
+ */
+@Service
+public class CacheStatisticsService {
+    
+    @Autowired
+    private PrincipalCache principalCache;
+    
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+    
+    public List<CacheStatsDto> getCacheStats() {
+        List<CacheStatsDto> stats = new ArrayList<>();
+        stats.add(principalCache.getStats());
+        
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        for (String region : statistics.getSecondLevelCacheRegionNames()) {
+            CacheRegionStatistics regionStats = statistics.getCacheRegionStatistics(region);
+            if (regionStats != null) {
+                // The JCache provider does not report region sizes; -1 means "unknown"
+                long size = regionStats.getElementCountInMemory();
+                stats.add(new CacheStatsDto(region, size >= 0 ? (int) size : -1,
+                        regionStats.getHitCount(), regionStats.getMissCount()));
+            }
+        }
+        return stats;
+    }
+}
@@ -0,0 +1,97 @@
+package com.campusconnect.service;
+
+import com.campusconnect.dto.ExecutorStatsDto;
+import com.campusconnect.metrics.SqlStatementCounter;
+import com.zaxxer.hikari.HikariDataSource;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import javax.sql.DataSource;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Supplier;
+
+/**
+ * Optional pool that controllers hand their database work to, so request threads are released
+ * while a query runs and a slow database backs work up here rather than in the servlet pool.
+ * Sized to the connection pool, since more threads would only wait for a connection; when the
+ * queue is full new work is rejected with a 503.
+ *
+ * Disabled by default, in which case work runs on the calling request thread.
+ */
+@Service
+public class DatabaseExecutor {
+    
+    private static final Logger logger = LoggerFactory.getLogger(DatabaseExecutor.class);
+    
+    // Connections Hikari opens when spring.datasource.hikari.maximum-pool-size is not set
+    private static final int DEFAULT_CONNECTION_POOL_SIZE = 10;
+    
+    @Autowired
+    private DataSource dataSource;
+    
+    @Autowired
+    private MeterRegistry meterRegistry;
+    
+    @Value("${database-executor.enabled}")
+    private boolean enabled;
+    
+    // 0 means one thread per pooled connection
+    @Value("${database-executor.threads}")
+    private int threads;
+    
+    @Value("${database-executor.queue-capacity}")
+    private int queueCapacity;
+    
+    private BoundedExecutor executor;
+    
+    @PostConstruct
+    void start() {
+        if (!enabled) {
+            return;
+        }
+        int poolThreads = threads > 0 ? threads : connectionPoolSize();
+        executor = new BoundedExecutor("database", poolThreads, queueCapacity);
+        executor.bindTo(meterRegistry);
+        logger.info("Database executor started with {} threads", poolThreads);
+    }
+    
+    @PreDestroy
+    void stop() {
+        if (executor != null) {
+            executor.shutdown();
+        }
+    }
+    
+    /**
+     * Runs the work on the pool, or right away on the calling thread when the executor is
+     * disabled. Throws RejectedExecutionException when the pool and its queue are full.
+     * Statements the work runs are counted towards the calling request.
+     */
+    public <T> CompletableFuture<T> submit(Supplier<T> work) {
+        if (executor == null) {
+            return CompletableFuture.completedFuture(work.get());
+        }
+        return executor.submit(SqlStatementCounter.propagate(work));
+    }
+    
+    public boolean isEnabled() {
+        return executor != null;
+    }
+    
+    public ExecutorStatsDto getStats() {
+        return executor.getStats();
+    }
+    
+    private int connectionPoolSize() {
+        if (dataSource instanceof HikariDataSource hikari) {
+            return hikari.getMaximumPoolSize();
+        }
+        return DEFAULT_CONNECTION_POOL_SIZE;
+    }
+}
@@ -0,0 +1,58 @@
+package com.campusconnect.service;
+
+import com.campusconnect.entity.Event;
+
+/**
+ * Published by EventService whenever an event is written, and by the join paths when only
+ * its participant set changed. In-memory read models listen with @TransactionalEventListener
+ * so they only see committed state.
+ */
+public class EventChangedEvent {
+    
+    public enum Type {
+        SAVED, DELETED, PARTICIPANTS_CHANGED,
+        // Deactivated by a set-based update, so there is no entity to hand over
+        DEACTIVATED
+    }
+    
+    private final Type type;
+    
+    private final Long eventId;
+    
+    // The saved entity; null for the other types
+    private final Event event;
+    
+    private EventChangedEvent(Type type, Long eventId, Event event) {
+        this.type = type;
+        this.eventId = eventId;
+        this.event = event;
+    }
+    
+    public static EventChangedEvent saved(Event event) {
+        return new EventChangedEvent(Type.SAVED, event.getId(), event);
+    }
+    
+    public static EventChangedEvent deleted(Long eventId) {
+        return new EventChangedEvent(Type.DELETED, eventId, null);
+    }
+    
+    public static EventChangedEvent deactivated(Long eventId) {
+        return new EventChangedEvent(Type.DEACTIVATED, eventId, null);
+    }
+    
+    public static EventChangedEvent participantsChanged(Long eventId) {
+        return new EventChangedEvent(Type.PARTICIPANTS_CHANGED, eventId, null);
+    }
+    
+    public Type getType() {
+        return type;
+    }
+    
+    public Long getEventId() {
+        return eventId;
+    }
+    
+    public Event getEvent() {
+        return event;
+    }
+}
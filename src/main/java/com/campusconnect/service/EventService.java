@@ -1,219 +1,590 @@
 package com.campusconnect.service;
 
+import com.campusconnect.dto.BatchResultDto;
+import com.campusconnect.dto.BulkEnrollmentRequest;
+import com.campusconnect.dto.BulkEnrollmentResultDto;
+import com.campusconnect.dto.CursorPage;
+import com.campusconnect.dto.EventCursor;
+import com.campusconnect.dto.EventDeactivationRequest;
 import com.campusconnect.dto.EventDto;
+import com.campusconnect.dto.EventSetVersion;
+import com.campusconnect.dto.EventSuggestionDto;
+import com.campusconnect.dto.EventSummaryDto;
+import com.campusconnect.dto.EventVersion;
+import com.campusconnect.dto.UserDto;
 import com.campusconnect.entity.Event;
 import com.campusconnect.entity.User;
+import com.campusconnect.repository.EventCacheEvictor;
+import com.campusconnect.repository.EventParticipantJdbcRepository;
 import com.campusconnect.repository.EventRepository;
 import com.campusconnect.repository.UserRepository;
+import com.campusconnect.search.EventSearchIndex;
+import com.campusconnect.search.EventSuggestionIndex;
+import com.campusconnect.search.EventTimeIndex;
+import io.micrometer.core.annotation.Timed;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.Limit;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.BinaryOperator;
+import java.util.function.Function;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 @Service
+@Timed("service.method")
 public class EventService {
     
+    private static final int MAX_PAGE_SIZE = 100;
+    
+    private static final int MAX_SUGGESTIONS = 20;
+    
     @Autowired
     private EventRepository eventRepository;
     
     @Autowired
     private UserRepository userRepository;
     
-    public EventDto createEvent(EventDto eventDto, String username) {
-        User user = userRepository.findByUsername(username)
-                .orElseThrow(() -> new RuntimeException("User not found"));
-        
-        // Only admins can create events
-        if (user.getRole() != User.Role.ADMIN) {
-            throw new RuntimeException("Only admins can create events");
-        }
-        
-        Event event = new Event();
-        event.setTitle(eventDto.getTitle());
-        event.setDescription(eventDto.getDescription());
-        event.setLocation(eventDto.getLocation());
-        event.setEventDateTime(eventDto.getEventDateTime());
-        event.setRegistrationDeadline(eventDto.getRegistrationDeadline());
-        event.setMaxParticipants(eventDto.getMaxParticipants());
-        event.setCategory(eventDto.getCategory());
-        event.setOrganizer(eventDto.getOrganizer());
-        event.setCreatedBy(user);
-        
-        Event savedEvent = eventRepository.save(event);
+    @Autowired
+    private EventSearchIndex searchIndex;
+    
+    @Autowired
+    private EventSuggestionIndex suggestionIndex;
+    
+    @Autowired
+    private EventTimeIndex timeIndex;
+    
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
+    
+    @Autowired
+    private EventCacheEvictor eventCacheEvictor;
+    
+    @Autowired
+    private PublicListingSnapshots listingSnapshots;
+    
+    @Autowired
+    private Validator validator;
+    
+    @Autowired
+    private EventParticipantJdbcRepository participantJdbcRepository;
+    
+    @Value("${events.batch-max-size}")
+    private int batchMaxSize;
+    
+    @Value("${events.bulk-enrollment-max-size}")
+    private int bulkEnrollmentMaxSize;
+    
+    @Transactional
+    public EventDto createEvent(EventDto eventDto, Long userId) {
+        User user = findAdmin(userId);
+        Event savedEvent = eventRepository.save(newEvent(eventDto, user));
+        eventPublisher.publishEvent(EventChangedEvent.saved(savedEvent));
         return EventDto.fromEntity(savedEvent);
     }
     
-    public EventDto updateEvent(Long eventId, EventDto eventDto, String username) {
-        User user = userRepository.findByUsername(username)
-                .orElseThrow(() -> new RuntimeException("User not found"));
-        
+    @Transactional
+    public EventDto updateEvent(Long eventId, EventDto eventDto, Long userId) {
         Event event = eventRepository.findById(eventId)
                 .orElseThrow(() -> new RuntimeException("Event not found"));
         
         // Only the creator (admin) can update the event
-        if (!event.getCreatedBy().getId().equals(user.getId())) {
+        if (!event.getCreatedBy().getId().equals(userId)) {
             throw new RuntimeException("You can only update events you created");
         }
         
-        // Update fields
-        if (eventDto.getTitle() != null) {
-            event.setTitle(eventDto.getTitle());
-        }
-        if (eventDto.getDescription() != null) {
-            event.setDescription(eventDto.getDescription());
-        }
-        if (eventDto.getLocation() != null) {
-            event.setLocation(eventDto.getLocation());
-        }
-        if (eventDto.getEventDateTime() != null) {
-            event.setEventDateTime(eventDto.getEventDateTime());
+        applyUpdate(event, eventDto);
+        Event updatedEvent = eventRepository.save(event);
+        eventPublisher.publishEvent(EventChangedEvent.saved(updatedEvent));
+        return EventDto.fromEntity(updatedEvent);
+    }
+    
+    // Batch writes run in one transaction. Items that fail validation or ownership checks are
+    // reported and skipped; the rest are flushed together as JDBC batches (hibernate.jdbc.batch_size).
+    
+    @Transactional
+    public BatchResultDto createEvents(List<EventDto> eventDtos, Long userId) {
+        checkBatchSize(eventDtos.size());
+        User user = findAdmin(userId);
+        
+        Event[] events = new Event[eventDtos.size()];
+        String[] errors = new String[eventDtos.size()];
+        for (int i = 0; i < eventDtos.size(); i++) {
+            errors[i] = validationError(eventDtos.get(i));
+            if (errors[i] == null) {
+                events[i] = newEvent(eventDtos.get(i), user);
+            }
         }
-        if (eventDto.getRegistrationDeadline() != null) {
-            event.setRegistrationDeadline(eventDto.getRegistrationDeadline());
+        // Sequence ids are assigned on persist; the inserts go out in batches at commit
+        eventRepository.saveAll(Arrays.stream(events).filter(Objects::nonNull).collect(Collectors.toList()));
+        
+        BatchResultDto result = new BatchResultDto();
+        for (int i = 0; i < events.length; i++) {
+            if (events[i] == null) {
+                result.addFailure(i, null, errors[i]);
+                continue;
+            }
+            eventPublisher.publishEvent(EventChangedEvent.saved(events[i]));
+            result.addSuccess(i, events[i].getId(), "created");
         }
-        if (eventDto.getMaxParticipants() > 0) {
-            event.setMaxParticipants(eventDto.getMaxParticipants());
+        return result;
+    }
+    
+    @Transactional
+    public BatchResultDto updateEvents(List<EventDto> eventDtos, Long userId) {
+        checkBatchSize(eventDtos.size());
+        Map<Long, Event> events = findAllById(eventDtos.stream().map(EventDto::getId));
+        
+        BatchResultDto result = new BatchResultDto();
+        for (int i = 0; i < eventDtos.size(); i++) {
+            EventDto eventDto = eventDtos.get(i);
+            Event event = events.get(eventDto.getId());
+            String error = eventDto.getId() == null ? "Event id is required"
+                    : event == null ? "Event not found"
+                    : !event.getCreatedBy().getId().equals(userId) ? "You can only update events you created"
+                    : validationError(eventDto);
+            if (error != null) {
+                result.addFailure(i, eventDto.getId(), error);
+                continue;
+            }
+            applyUpdate(event, eventDto);
+            eventPublisher.publishEvent(EventChangedEvent.saved(event));
+            result.addSuccess(i, event.getId(), "updated");
         }
-        if (eventDto.getCategory() != null) {
-            event.setCategory(eventDto.getCategory());
+        return result;
+    }
+    
+    @Transactional
+    public BatchResultDto deactivateEvents(EventDeactivationRequest request, Long userId) {
+        boolean byIds = request.getEventIds() != null && !request.getEventIds().isEmpty();
+        if (byIds == request.hasFilter()) {
+            throw new RuntimeException("Provide either eventIds or a filter (category, startsAfter, startsBefore)");
         }
-        if (eventDto.getOrganizer() != null) {
-            event.setOrganizer(eventDto.getOrganizer());
+        
+        BatchResultDto result = new BatchResultDto();
+        Collection<Long> eventIds = new LinkedHashSet<>();
+        if (byIds) {
+            checkBatchSize(request.getEventIds().size());
+            Map<Long, Event> events = findAllById(request.getEventIds().stream());
+            for (int i = 0; i < request.getEventIds().size(); i++) {
+                Long eventId = request.getEventIds().get(i);
+                Event event = events.get(eventId);
+                String error = event == null ? "Event not found"
+                        : !event.getCreatedBy().getId().equals(userId) ? "You can only deactivate events you created"
+                        : !event.isActive() || eventIds.contains(eventId) ? "Event is not active"
+                        : null;
+                if (error != null) {
+                    result.addFailure(i, eventId, error);
+                } else {
+                    eventIds.add(eventId);
+                    result.addSuccess(i, eventId, "deactivated");
+                }
+            }
+        } else {
+            eventIds = eventRepository.findActiveEventIdsByCreator(userId, request.getCategory(),
+                    request.getStartsAfter(), request.getStartsBefore());
+            int index = 0;
+            for (Long eventId : eventIds) {
+                result.addSuccess(index++, eventId, "deactivated");
+            }
         }
         
-        Event updatedEvent = eventRepository.save(event);
-        return EventDto.fromEntity(updatedEvent);
+        if (!eventIds.isEmpty()) {
+            eventRepository.deactivateAll(eventIds, LocalDateTime.now());
+            eventIds.forEach(eventId -> eventPublisher.publishEvent(EventChangedEvent.deactivated(eventId)));
+        }
+        return result;
     }
     
+    @Transactional(readOnly = true)
     public EventDto getEventById(Long eventId) {
         Event event = eventRepository.findById(eventId)
                 .orElseThrow(() -> new RuntimeException("Event not found"));
         return EventDto.fromEntity(event);
     }
     
-    public List<EventDto> getAllActiveEvents() {
-        return eventRepository.findByIsActiveTrueOrderByEventDateTimeAsc().stream()
-                .map(EventDto::fromEntity)
-                .collect(Collectors.toList());
+    // Strong ETags for conditional GETs; each costs a version lookup, not a read of the event.
+    // Bodies carry registrationOpen, so the tags also change when a deadline passes
+    public String getEventETag(Long eventId) {
+        EventVersion version = eventRepository.findVersionById(eventId)
+                .orElseThrow(() -> new RuntimeException("Event not found"));
+        return "event-" + eventId + "-" + version.encode(LocalDateTime.now());
     }
     
-    public List<EventDto> getUpcomingEvents() {
-        return eventRepository.findUpcomingEvents(LocalDateTime.now()).stream()
-                .map(EventDto::fromEntity)
-                .collect(Collectors.toList());
+    public String getPublicListingsETag() {
+        return "listings-" + listingSnapshots.getVersionTag();
     }
     
-    public List<EventDto> getEventsWithOpenRegistration() {
-        return eventRepository.findEventsWithOpenRegistration(LocalDateTime.now()).stream()
-                .map(EventDto::fromEntity)
-                .collect(Collectors.toList());
+    public String getCreatorEventsETag(Long userId) {
+        List<EventVersion> versions = eventRepository.findCreatorVersions(userId);
+        return "created-" + userId + "-" + EventSetVersion.of(versions, LocalDateTime.now()).encode();
     }
     
-    public List<EventDto> getEventsByCategory(String category) {
-        return eventRepository.findByCategoryAndIsActiveTrueOrderByEventDateTimeAsc(category).stream()
-                .map(EventDto::fromEntity)
-                .collect(Collectors.toList());
+    public String getParticipationsETag(Long userId) {
+        List<EventVersion> versions = eventRepository.findParticipationVersions(userId);
+        return "joined-" + userId + "-" + EventSetVersion.of(versions, LocalDateTime.now()).encode();
     }
     
-    public List<EventDto> getEventsByCreator(String username) {
-        User user = userRepository.findByUsername(username)
-                .orElseThrow(() -> new RuntimeException("User not found"));
+    public CursorPage<EventSummaryDto> getAllActiveEvents(String cursor, int size) {
+        return listingSnapshots.getAllActiveEvents(cursor, pageSize(size));
+    }
+    
+    public CursorPage<EventSummaryDto> getUpcomingEvents(String cursor, int size) {
+        return listingSnapshots.getUpcomingEvents(cursor, pageSize(size));
+    }
+    
+    public CursorPage<EventSummaryDto> getEventsWithOpenRegistration(String cursor, int size) {
+        return listingSnapshots.getEventsWithOpenRegistration(cursor, pageSize(size));
+    }
+    
+    public CursorPage<EventSummaryDto> getEventsByCategory(String category, String cursor, int size) {
+        EventCursor after = EventCursor.decode(cursor);
+        List<EventSummaryDto> events = after == null
+                ? eventRepository.findActiveEventsByCategory(category, limit(size))
+                : eventRepository.findActiveEventsByCategoryAfter(category, after.getTimestamp(), after.getId(), limit(size));
+        return toPage(events, size, EventSummaryDto::getEventDateTime);
+    }
+    
+    public CursorPage<EventSummaryDto> getEventsByCreator(Long userId, String cursor, int size) {
+        EventCursor after = EventCursor.decode(cursor);
+        List<EventSummaryDto> events = after == null
+                ? eventRepository.findEventsByCreator(userId, limit(size))
+                : eventRepository.findEventsByCreatorAfter(userId, after.getTimestamp(), after.getId(), limit(size));
+        return toPage(events, size, EventSummaryDto::getCreatedAt);
+    }
+    
+    public CursorPage<EventSummaryDto> getEventsByParticipant(Long userId, String cursor, int size) {
+        EventCursor after = EventCursor.decode(cursor);
+        List<EventSummaryDto> events = after == null
+                ? eventRepository.findEventsByParticipant(userId, limit(size))
+                : eventRepository.findEventsByParticipantAfter(userId, after.getTimestamp(), after.getId(), limit(size));
+        return toPage(events, size, EventSummaryDto::getEventDateTime);
+    }
+    
+    public CursorPage<EventSummaryDto> searchEvents(String keyword, String cursor, int size) {
+        EventSearchIndex.SearchPage hits = searchIndex.search(keyword, cursor, pageSize(size));
+        if (hits.getEventIds().isEmpty()) {
+            return new CursorPage<>(List.of(), null);
+        }
         
-        return eventRepository.findByCreatedByOrderByCreatedAtDesc(user).stream()
-                .map(EventDto::fromEntity)
+        // Fetch the page's summaries in one statement, then restore the index's ranking order
+        Map<Long, EventSummaryDto> summaries = eventRepository.findSummariesByIds(hits.getEventIds()).stream()
+                .collect(Collectors.toMap(EventSummaryDto::getId, Function.identity()));
+        List<EventSummaryDto> ranked = hits.getEventIds().stream()
+                .map(summaries::get)
+                .filter(Objects::nonNull)
                 .collect(Collectors.toList());
+        return new CursorPage<>(ranked, hits.getNextCursor());
     }
     
-    public List<EventDto> getEventsByParticipant(String username) {
-        User user = userRepository.findByUsername(username)
-                .orElseThrow(() -> new RuntimeException("User not found"));
+    public CursorPage<EventSummaryDto> getEventsInRange(EventTimeIndex.Field field, LocalDateTime from, LocalDateTime to,
+                                                        String cursor, int size) {
+        if (!from.isBefore(to)) {
+            throw new RuntimeException("from must be before to");
+        }
+        CursorPage<Long> hits = timeIndex.range(field, from, to, cursor, pageSize(size));
+        if (hits.getItems().isEmpty()) {
+            return new CursorPage<>(List.of(), null);
+        }
         
-        return eventRepository.findEventsByParticipant(user.getId()).stream()
-                .map(EventDto::fromEntity)
+        Map<Long, EventSummaryDto> summaries = eventRepository.findSummariesByIds(hits.getItems()).stream()
+                .collect(Collectors.toMap(EventSummaryDto::getId, Function.identity()));
+        List<EventSummaryDto> ordered = hits.getItems().stream()
+                .map(summaries::get)
+                .filter(Objects::nonNull)
                 .collect(Collectors.toList());
+        return new CursorPage<>(ordered, hits.getNextCursor());
     }
     
-    public List<EventDto> searchEvents(String keyword) {
-        return eventRepository.searchEventsByKeyword(keyword).stream()
-                .map(EventDto::fromEntity)
-                .collect(Collectors.toList());
+    public List<EventSuggestionDto> suggestEvents(String prefix, int limit) {
+        return suggestionIndex.suggest(prefix, Math.max(1, Math.min(limit, MAX_SUGGESTIONS)));
     }
     
-    public EventDto joinEvent(Long eventId, String username) {
-        User user = userRepository.findByUsername(username)
-                .orElseThrow(() -> new RuntimeException("User not found"));
-        
-        Event event = eventRepository.findById(eventId)
-                .orElseThrow(() -> new RuntimeException("Event not found"));
-        
-        if (!event.isActive()) {
-            throw new RuntimeException("Event is not active");
-        }
-        
-        if (!event.isRegistrationOpen()) {
-            throw new RuntimeException("Registration is closed for this event");
+    @Transactional
+    public EventSummaryDto joinEvent(Long eventId, Long userId) {
+        // Claim a seat first; only a failed claim needs the event loaded to explain why
+        if (eventRepository.reserveSeat(eventId, LocalDateTime.now()) == 0) {
+            throw joinRejection(eventId);
         }
         
-        if (event.isEventFull()) {
-            throw new RuntimeException("Event is full");
+        try {
+            eventRepository.insertParticipant(eventId, userId);
+        } catch (DataIntegrityViolationException e) {
+            // Unique (event_id, user_id) violation; throwing rolls the seat claim back
+            throw new RuntimeException("You are already registered for this event");
         }
+        eventCacheEvictor.evictAfterCommit(eventId);
+        eventPublisher.publishEvent(EventChangedEvent.participantsChanged(eventId));
         
-        if (event.getParticipants().contains(user)) {
-            throw new RuntimeException("You are already registered for this event");
+        return getEventSummary(eventId);
+    }
+    
+    @Transactional
+    public EventSummaryDto leaveEvent(Long eventId, Long userId) {
+        if (eventRepository.deleteParticipant(eventId, userId) == 0) {
+            throw new RuntimeException("You are not registered for this event");
         }
         
-        event.addParticipant(user);
-        Event savedEvent = eventRepository.save(event);
-        return EventDto.fromEntity(savedEvent);
+        eventRepository.releaseSeat(eventId);
+        eventCacheEvictor.evictAfterCommit(eventId);
+        eventPublisher.publishEvent(EventChangedEvent.participantsChanged(eventId));
+        return getEventSummary(eventId);
     }
     
-    public EventDto leaveEvent(Long eventId, String username) {
-        User user = userRepository.findByUsername(username)
-                .orElseThrow(() -> new RuntimeException("User not found"));
+    // Admin enrollment for mandatory events: ignores the registration deadline but not capacity.
+    // Holding the event row lock serializes this with joins, leaves and admission batches.
+    @Transactional
+    public BulkEnrollmentResultDto enrollParticipants(Long eventId, BulkEnrollmentRequest request, Long userId) {
+        if (request.size() == 0) {
+            throw new RuntimeException("Provide userIds or studentIds to enroll");
+        }
+        if (request.size() > bulkEnrollmentMaxSize) {
+            throw new RuntimeException("Cannot enroll more than " + bulkEnrollmentMaxSize + " students at once");
+        }
         
-        Event event = eventRepository.findById(eventId)
+        Event event = eventRepository.findByIdForUpdate(eventId)
                 .orElseThrow(() -> new RuntimeException("Event not found"));
+        if (!event.getCreatedBy().getId().equals(userId)) {
+            throw new RuntimeException("You can only enroll students in events you created");
+        }
+        if (!event.isActive()) {
+            throw new RuntimeException("Event is not active");
+        }
         
-        if (!event.getParticipants().contains(user)) {
-            throw new RuntimeException("You are not registered for this event");
+        // Resolve each list with one IN query, keeping the requested order and identifiers
+        List<Long> requestedUserIds = new ArrayList<>();
+        List<String> requestedStudentIds = new ArrayList<>();
+        List<UserDto> students = new ArrayList<>();
+        if (request.getUserIds() != null && !request.getUserIds().isEmpty()) {
+            Map<Long, UserDto> byId = userRepository.findDirectoryEntriesByIds(nonNullDistinct(request.getUserIds())).stream()
+                    .collect(Collectors.toMap(UserDto::getId, Function.identity()));
+            for (Long requested : request.getUserIds()) {
+                requestedUserIds.add(requested);
+                requestedStudentIds.add(null);
+                students.add(byId.get(requested));
+            }
+        }
+        if (request.getStudentIds() != null && !request.getStudentIds().isEmpty()) {
+            Map<String, UserDto> byStudentId = userRepository.findDirectoryEntriesByStudentIds(nonNullDistinct(request.getStudentIds()))
+                    .stream()
+                    .collect(Collectors.toMap(UserDto::getStudentId, Function.identity(),
+                            BinaryOperator.minBy(Comparator.comparing(UserDto::getId))));
+            for (String requested : request.getStudentIds()) {
+                requestedUserIds.add(null);
+                requestedStudentIds.add(requested);
+                students.add(byStudentId.get(requested));
+            }
         }
         
-        event.removeParticipant(user);
-        Event savedEvent = eventRepository.save(event);
-        return EventDto.fromEntity(savedEvent);
+        Set<Long> registered = participantJdbcRepository.findRegisteredUserIds(eventId,
+                students.stream().filter(Objects::nonNull).map(UserDto::getId).collect(Collectors.toSet()));
+        int seatsLeft = event.getMaxParticipants() > 0
+                ? Math.max(0, event.getMaxParticipants() - event.getParticipantCount())
+                : Integer.MAX_VALUE;
+        
+        BulkEnrollmentResultDto result = new BulkEnrollmentResultDto(eventId);
+        List<Long> enrolled = new ArrayList<>();
+        for (int i = 0; i < students.size(); i++) {
+            UserDto student = students.get(i);
+            if (student == null) {
+                result.addFailure(requestedUserIds.get(i), requestedStudentIds.get(i), "Student not found");
+            } else if (student.getRole() != User.Role.STUDENT) {
+                result.addFailure(student.getId(), student.getStudentId(), "Only students can be enrolled");
+            } else if (!registered.add(student.getId())) {
+                result.addAlreadyRegistered(student.getId(), student.getStudentId());
+            } else if (seatsLeft == 0) {
+                result.addFailure(student.getId(), student.getStudentId(), "Event is full");
+            } else {
+                seatsLeft--;
+                enrolled.add(student.getId());
+                result.addEnrolled(student.getId(), student.getStudentId());
+            }
+        }
+        
+        if (!enrolled.isEmpty()) {
+            participantJdbcRepository.insertParticipants(eventId, enrolled);
+            eventRepository.addToParticipantCount(eventId, enrolled.size());
+            eventPublisher.publishEvent(EventChangedEvent.participantsChanged(eventId));
+        }
+        return result;
     }
     
-    public void deleteEvent(Long eventId, String username) {
-        User user = userRepository.findByUsername(username)
-                .orElseThrow(() -> new RuntimeException("User not found"));
-        
+    @Transactional
+    public void deleteEvent(Long eventId, Long userId) {
         Event event = eventRepository.findById(eventId)
                 .orElseThrow(() -> new RuntimeException("Event not found"));
         
         // Only the creator (admin) can delete the event
-        if (!event.getCreatedBy().getId().equals(user.getId())) {
+        if (!event.getCreatedBy().getId().equals(userId)) {
             throw new RuntimeException("You can only delete events you created");
         }
         
         eventRepository.deleteById(eventId);
+        eventPublisher.publishEvent(EventChangedEvent.deleted(eventId));
     }
     
-    public EventDto deactivateEvent(Long eventId, String username) {
-        User user = userRepository.findByUsername(username)
-                .orElseThrow(() -> new RuntimeException("User not found"));
-        
+    @Transactional
+    public EventDto deactivateEvent(Long eventId, Long userId) {
         Event event = eventRepository.findById(eventId)
                 .orElseThrow(() -> new RuntimeException("Event not found"));
         
         // Only the creator (admin) can deactivate the event
-        if (!event.getCreatedBy().getId().equals(user.getId())) {
+        if (!event.getCreatedBy().getId().equals(userId)) {
             throw new RuntimeException("You can only deactivate events you created");
         }
         
         event.setActive(false);
         Event savedEvent = eventRepository.save(event);
+        eventPublisher.publishEvent(EventChangedEvent.saved(savedEvent));
         return EventDto.fromEntity(savedEvent);
     }
+    
+    private User findAdmin(Long userId) {
+        User user = userRepository.findById(userId)
+                .orElseThrow(() -> new RuntimeException("User not found"));
+        
+        // Only admins can create events
+        if (user.getRole() != User.Role.ADMIN) {
+            throw new RuntimeException("Only admins can create events");
+        }
+        return user;
+    }
+    
+    private static Event newEvent(EventDto eventDto, User user) {
+        Event event = new Event();
+        event.setTitle(eventDto.getTitle());
+        event.setDescription(eventDto.getDescription());
+        event.setLocation(eventDto.getLocation());
+        event.setEventDateTime(eventDto.getEventDateTime());
+        event.setRegistrationDeadline(eventDto.getRegistrationDeadline());
+        event.setMaxParticipants(eventDto.getMaxParticipants());
+        event.setCategory(eventDto.getCategory());
+        event.setOrganizer(eventDto.getOrganizer());
+        event.setQueuedAdmission(Boolean.TRUE.equals(eventDto.getQueuedAdmission()));
+        event.setCreatedBy(user);
+        return event;
+    }
+    
+    private static void applyUpdate(Event event, EventDto eventDto) {
+        if (eventDto.getTitle() != null) {
+            event.setTitle(eventDto.getTitle());
+        }
+        if (eventDto.getDescription() != null) {
+            event.setDescription(eventDto.getDescription());
+        }
+        if (eventDto.getLocation() != null) {
+            event.setLocation(eventDto.getLocation());
+        }
+        if (eventDto.getEventDateTime() != null) {
+            event.setEventDateTime(eventDto.getEventDateTime());
+        }
+        if (eventDto.getRegistrationDeadline() != null) {
+            event.setRegistrationDeadline(eventDto.getRegistrationDeadline());
+        }
+        if (eventDto.getMaxParticipants() > 0) {
+            event.setMaxParticipants(eventDto.getMaxParticipants());
+        }
+        if (eventDto.getCategory() != null) {
+            event.setCategory(eventDto.getCategory());
+        }
+        if (eventDto.getOrganizer() != null) {
+            event.setOrganizer(eventDto.getOrganizer());
+        }
+        if (eventDto.getQueuedAdmission() != null) {
+            event.setQueuedAdmission(eventDto.getQueuedAdmission());
+        }
+    }
+    
+    private static <T> List<T> nonNullDistinct(List<T> values) {
+        return values.stream().filter(Objects::nonNull).distinct().collect(Collectors.toList());
+    }
+    
+    // One IN query for the whole batch instead of a lookup per item
+    private Map<Long, Event> findAllById(Stream<Long> eventIds) {
+        List<Long> ids = eventIds.filter(Objects::nonNull).distinct().collect(Collectors.toList());
+        return eventRepository.findAllById(ids).stream()
+                .collect(Collectors.toMap(Event::getId, Function.identity()));
+    }
+    
+    // Batch items are validated here rather than by @Valid, so one bad item cannot reject the rest
+    private String validationError(EventDto eventDto) {
+        Set<ConstraintViolation<EventDto>> violations = validator.validate(eventDto);
+        if (violations.isEmpty()) {
+            return null;
+        }
+        return violations.stream()
+                .map(violation -> violation.getPropertyPath() + ": " + violation.getMessage())
+                .sorted()
+                .collect(Collectors.joining("; "));
+    }
+    
+    private void checkBatchSize(int size) {
+        if (size == 0) {
+            throw new RuntimeException("Batch must contain at least one event");
+        }
+        if (size > batchMaxSize) {
+            throw new RuntimeException("Batch must not contain more than " + batchMaxSize + " events");
+        }
+    }
+    
+    private EventSummaryDto getEventSummary(Long eventId) {
+        return eventRepository.findSummaryById(eventId)
+                .orElseThrow(() -> new RuntimeException("Event not found"));
+    }
+    
+    private RuntimeException joinRejection(Long eventId) {
+        Event event = eventRepository.findById(eventId)
+                .orElseThrow(() -> new RuntimeException("Event not found"));
+        
+        if (!event.isActive()) {
+            return new RuntimeException("Event is not active");
+        }
+        if (!event.isRegistrationOpen()) {
+            return new RuntimeException("Registration is closed for this event");
+        }
+        return new RuntimeException("Event is full");
+    }
+    
+    // Keyset pagination helpers: fetch one extra row to learn whether another page exists
+    private static Limit limit(int size) {
+        return Limit.of(pageSize(size) + 1);
+    }
+    
+    private static int pageSize(int size) {
+        if (size < 1) {
+            throw new RuntimeException("Page size must be positive");
+        }
+        return Math.min(size, MAX_PAGE_SIZE);
+    }
+    
+    private static CursorPage<EventSummaryDto> toPage(List<EventSummaryDto> events, int size,
+                                                      Function<EventSummaryDto, LocalDateTime> sortKey) {
+        int pageSize = pageSize(size);
+        boolean hasMore = events.size() > pageSize;
+        List<EventSummaryDto> page = hasMore ? events.subList(0, pageSize) : events;
+        
+        String nextCursor = null;
+        if (hasMore) {
+            EventSummaryDto last = page.get(page.size() - 1);
+            nextCursor = new EventCursor(sortKey.apply(last), last.getId()).encode();
+        }
+        
+        return new CursorPage<>(page, nextCursor);
+    }
 }
@@ -0,0 +1,33 @@
+package com.campusconnect.service;
+
+public enum ExportFormat {
+    
+    NDJSON("application/x-ndjson", "ndjson"),
+    CSV("text/csv", "csv");
+    
+    private final String contentType;
+    
+    private final String fileExtension;
+    
+    ExportFormat(String contentType, String fileExtension) {
+        this.contentType = contentType;
+        this.fileExtension = fileExtension;
+    }
+    
+    public static ExportFormat fromParam(String format) {
+        for (ExportFormat candidate : values()) {
+            if (candidate.fileExtension.equalsIgnoreCase(format)) {
+                return candidate;
+            }
+        }
+        throw new RuntimeException("Unsupported export format: " + format);
+    }
+    
+    public String getContentType() {
+        return contentType;
+    }
+    
+    public String getFileExtension() {
+        return fileExtension;
+    }
+}
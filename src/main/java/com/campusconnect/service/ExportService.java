@@ -0,0 +1,190 @@
+package com.campusconnect.service;
+
+import com.campusconnect.dto.EventSummaryDto;
+import com.campusconnect.dto.ParticipantExportRow;
+import com.campusconnect.dto.UserDto;
+import com.campusconnect.entity.User;
+import com.campusconnect.repository.EventRepository;
+import com.campusconnect.repository.UserRepository;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Stream;
+
+/**
+ * Writes exports row by row straight from a database cursor. Rows are constructor projections,
+ * so nothing accumulates in the persistence context and heap use does not grow with the export.
+ */
+@Service
+public class ExportService {
+    
+    private static final List<Column<ParticipantExportRow>> PARTICIPANT_COLUMNS = List.of(
+            new Column<>("eventId", ParticipantExportRow::getEventId),
+            new Column<>("eventTitle", ParticipantExportRow::getEventTitle),
+            new Column<>("eventDateTime", ParticipantExportRow::getEventDateTime),
+            new Column<>("userId", ParticipantExportRow::getUserId),
+            new Column<>("username", ParticipantExportRow::getUsername),
+            new Column<>("email", ParticipantExportRow::getEmail),
+            new Column<>("firstName", ParticipantExportRow::getFirstName),
+            new Column<>("lastName", ParticipantExportRow::getLastName),
+            new Column<>("studentId", ParticipantExportRow::getStudentId),
+            new Column<>("department", ParticipantExportRow::getDepartment));
+    
+    private static final List<Column<EventSummaryDto>> EVENT_COLUMNS = List.of(
+            new Column<>("id", EventSummaryDto::getId),
+            new Column<>("title", EventSummaryDto::getTitle),
+            new Column<>("category", EventSummaryDto::getCategory),
+            new Column<>("organizer", EventSummaryDto::getOrganizer),
+            new Column<>("location", EventSummaryDto::getLocation),
+            new Column<>("eventDateTime", EventSummaryDto::getEventDateTime),
+            new Column<>("registrationDeadline", EventSummaryDto::getRegistrationDeadline),
+            new Column<>("maxParticipants", EventSummaryDto::getMaxParticipants),
+            new Column<>("currentParticipants", EventSummaryDto::getCurrentParticipants),
+            new Column<>("active", EventSummaryDto::isActive),
+            new Column<>("createdBy", EventSummaryDto::getCreatedByUsername),
+            new Column<>("createdAt", EventSummaryDto::getCreatedAt));
+    
+    private static final List<Column<UserDto>> USER_COLUMNS = List.of(
+            new Column<>("id", UserDto::getId),
+            new Column<>("username", UserDto::getUsername),
+            new Column<>("email", UserDto::getEmail),
+            new Column<>("firstName", UserDto::getFirstName),
+            new Column<>("lastName", UserDto::getLastName),
+            new Column<>("role", UserDto::getRole),
+            new Column<>("studentId", UserDto::getStudentId),
+            new Column<>("department", UserDto::getDepartment));
+    
+    @Autowired
+    private EventRepository eventRepository;
+    
+    @Autowired
+    private UserRepository userRepository;
+    
+    @Autowired
+    private ObjectMapper objectMapper;
+    
+    @Value("${exports.registrations-max-range-days}")
+    private long registrationsMaxRangeDays;
+    
+    // Checked before the response starts, so a bad id still gets a normal error response
+    public void requireEvent(Long eventId) {
+        if (!eventRepository.existsById(eventId)) {
+            throw new RuntimeException("Event not found");
+        }
+    }
+    
+    // Same idea for the registrations range: an open-ended range would stream every registration
+    public void requireRegistrationRange(LocalDateTime from, LocalDateTime to) {
+        if (!from.isBefore(to)) {
+            throw new RuntimeException("from must be before to");
+        }
+        if (Duration.between(from, to).compareTo(Duration.ofDays(registrationsMaxRangeDays)) > 0) {
+            throw new RuntimeException("Export range cannot exceed " + registrationsMaxRangeDays + " days");
+        }
+    }
+    
+    @Transactional(readOnly = true)
+    public void exportParticipants(Long eventId, ExportFormat format, OutputStream out) {
+        try (Stream<ParticipantExportRow> rows = eventRepository.streamParticipants(eventId)) {
+            write(rows, PARTICIPANT_COLUMNS, format, out);
+        }
+    }
+    
+    @Transactional(readOnly = true)
+    public void exportRegistrations(LocalDateTime from, LocalDateTime to, ExportFormat format, OutputStream out) {
+        try (Stream<ParticipantExportRow> rows = eventRepository.streamRegistrations(from, to)) {
+            write(rows, PARTICIPANT_COLUMNS, format, out);
+        }
+    }
+    
+    @Transactional(readOnly = true)
+    public void exportEvents(String category, ExportFormat format, OutputStream out) {
+        try (Stream<EventSummaryDto> rows = category == null
+                ? eventRepository.streamSummaries()
+                : eventRepository.streamSummariesByCategory(category)) {
+            write(rows, EVENT_COLUMNS, format, out);
+        }
+    }
+    
+    @Transactional(readOnly = true)
+    public void exportUsers(User.Role role, ExportFormat format, OutputStream out) {
+        try (Stream<UserDto> rows = role == null
+                ? userRepository.streamDirectoryEntries()
+                : userRepository.streamDirectoryEntriesByRole(role)) {
+            write(rows, USER_COLUMNS, format, out);
+        }
+    }
+    
+    private <T> void write(Stream<T> rows, List<Column<T>> columns, ExportFormat format, OutputStream out) {
+        try {
+            Writer writer = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8));
+            if (format == ExportFormat.CSV) {
+                writeCsvLine(writer, columns.stream().map(Column::name).toList());
+            }
+            rows.forEach(row -> writeRow(writer, row, columns, format));
+            writer.flush();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+    
+    private <T> void writeRow(Writer writer, T row, List<Column<T>> columns, ExportFormat format) {
+        try {
+            if (format == ExportFormat.CSV) {
+                writeCsvLine(writer, columns.stream().map(column -> column.value(row)).toList());
+            } else {
+                Map<String, Object> record = new LinkedHashMap<>();
+                columns.forEach(column -> record.put(column.name(), column.value(row)));
+                writer.write(objectMapper.writeValueAsString(record));
+                writer.write('\n');
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+    
+    private static void writeCsvLine(Writer writer, List<?> values) throws IOException {
+        for (int i = 0; i < values.size(); i++) {
+            if (i > 0) {
+                writer.write(',');
+            }
+            writer.write(csvField(values.get(i)));
+        }
+        writer.write("\r\n");
+    }
+    
+    // RFC 4180: quote fields containing a separator, quote or line break and double embedded quotes
+    private static String csvField(Object value) {
+        if (value == null) {
+            return "";
+        }
+        String text = value.toString();
+        if (text.indexOf(',') < 0 && text.indexOf('"') < 0 && text.indexOf('\n') < 0 && text.indexOf('\r') < 0) {
+            return text;
+        }
+        return '"' + text.replace("\"", "\"\"") + '"';
+    }
+    
+    private record Column<T>(String name, Function<T, Object> getter) {
+        
+        Object value(T row) {
+            return getter.apply(row);
+        }
+    }
+}
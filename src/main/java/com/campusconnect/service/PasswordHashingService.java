@@ -0,0 +1,77 @@
+package com.campusconnect.service;
+
+import com.campusconnect.dto.ExecutorStatsDto;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.stereotype.Service;
+
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Runs BCrypt checks and hashes on a dedicated pool sized to the CPU count, so a login storm
+ * queues here (and is rejected once the queue is full) instead of occupying every request thread.
+ */
+@Service
+public class PasswordHashingService {
+    
+    @Autowired
+    private PasswordEncoder passwordEncoder;
+    
+    @Autowired
+    private MeterRegistry meterRegistry;
+    
+    // 0 means one thread per available processor
+    @Value("${login.hashing-threads}")
+    private int hashingThreads;
+    
+    @Value("${login.hashing-queue-capacity}")
+    private int queueCapacity;
+    
+    private BoundedExecutor executor;
+    
+    // Checked against when the user does not exist, so unknown usernames cost the same time
+    private String dummyHash;
+    
+    @PostConstruct
+    void start() {
+        int threads = hashingThreads > 0 ? hashingThreads : Runtime.getRuntime().availableProcessors();
+        executor = new BoundedExecutor("password-hasher", threads, queueCapacity);
+        executor.bindTo(meterRegistry);
+        dummyHash = passwordEncoder.encode(UUID.randomUUID().toString());
+    }
+    
+    @PreDestroy
+    void stop() {
+        executor.shutdown();
+    }
+    
+    /**
+     * Checks the password on the hashing pool. A null encodedPassword is checked against a
+     * dummy hash and always fails.
+     */
+    public CompletableFuture<Boolean> matches(String rawPassword, String encodedPassword) {
+        return executor.submit(() -> {
+            boolean matches = passwordEncoder.matches(rawPassword, encodedPassword != null ? encodedPassword : dummyHash);
+            return matches && encodedPassword != null;
+        });
+    }
+    
+    /**
+     * Hashes the password on the hashing pool, unless it matches encodedPassword, in which case
+     * the future completes with null.
+     */
+    public CompletableFuture<String> hashIfChanged(String rawPassword, String encodedPassword) {
+        return executor.submit(() -> encodedPassword != null && passwordEncoder.matches(rawPassword, encodedPassword)
+                ? null
+                : passwordEncoder.encode(rawPassword));
+    }
+    
+    public ExecutorStatsDto getStats() {
+        return executor.getStats();
+    }
+}
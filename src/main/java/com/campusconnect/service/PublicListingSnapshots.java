@@ -0,0 +1,334 @@
+package com.campusconnect.service;
+
+import com.campusconnect.dto.CursorPage;
+import com.campusconnect.dto.EventCursor;
+import com.campusconnect.dto.EventSummaryDto;
+import com.campusconnect.repository.EventRepository;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Limit;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Function;
+import java.util.function.Predicate;
+
+/**
+ * Immutable, versioned snapshots of the public all / upcoming / open-registration listings,
+ * plus lookups by id and category for the reactive public catalog. Readers do a single
+ * volatile read and page through a prebuilt list; they never touch the database or build DTOs.
+ *
+ * All writes happen on one scheduler thread. Event changes mark the event dirty, and dirty
+ * events are re-read together after a short delay, so a burst of joins costs one query and
+ * one new snapshot. The scheduler also wakes at the next start time or registration deadline,
+ * when an event drops out of a listing or its registration closes, instead of polling.
+ *
+ * A new snapshot is patched from the previous one rather than rebuilt: each list is copied once
+ * with the changed events left out and their new versions merged in at their sort position, and
+ * only the categories those events belong to get new lists. Nothing is re-sorted except the
+ * changed events themselves.
+ */
+@Component
+public class PublicListingSnapshots {
+    
+    private static final Logger logger = LoggerFactory.getLogger(PublicListingSnapshots.class);
+    
+    private static final Comparator<EventSummaryDto> BY_EVENT_TIME = Comparator
+            .comparing(EventSummaryDto::getEventDateTime).thenComparing(EventSummaryDto::getId);
+    
+    private static final Comparator<EventSummaryDto> BY_DEADLINE = Comparator
+            .comparing(EventSummaryDto::getRegistrationDeadline).thenComparing(EventSummaryDto::getId);
+    
+    @Autowired
+    private EventRepository eventRepository;
+    
+    @Value("${listing.snapshot-refresh-delay-ms}")
+    private long refreshDelayMs;
+    
+    private final ScheduledExecutorService scheduler =
+            Executors.newSingleThreadScheduledExecutor(new CustomizableThreadFactory("listing-snapshots-"));
+    
+    // Only touched on the scheduler thread
+    private ScheduledFuture<?> nextBoundary;
+    
+    private final Set<Long> dirtyEvents = ConcurrentHashMap.newKeySet();
+    
+    private final AtomicBoolean refreshScheduled = new AtomicBoolean();
+    
+    // Versions restart with the process; the start time keeps ETags from before a restart from matching
+    private final long epoch = System.currentTimeMillis();
+    
+    private volatile Snapshot current = new Snapshot(0, List.of(), List.of(), List.of(), Map.of(), Map.of());
+    
+    @EventListener(ApplicationReadyEvent.class)
+    public void load() {
+        scheduler.execute(() -> {
+            Map<Long, EventSummaryDto> events = new HashMap<>();
+            eventRepository.findActiveEvents(Limit.unlimited()).forEach(event -> events.put(event.getId(), event));
+            publish(events);
+        });
+    }
+    
+    @PreDestroy
+    void stop() {
+        scheduler.shutdownNow();
+    }
+    
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onEventChanged(EventChangedEvent change) {
+        if (change.getType() == EventChangedEvent.Type.DELETED) {
+            scheduler.execute(() -> {
+                dirtyEvents.remove(change.getEventId());
+                if (current.byId().containsKey(change.getEventId())) {
+                    publish(Collections.singletonMap(change.getEventId(), null));
+                }
+            });
+            return;
+        }
+        dirtyEvents.add(change.getEventId());
+        if (refreshScheduled.compareAndSet(false, true)) {
+            scheduler.schedule(this::refreshDirtyEvents, refreshDelayMs, TimeUnit.MILLISECONDS);
+        }
+    }
+    
+    // Read before the page, so a concurrent publish can only make the page newer than its version
+    public String getVersionTag() {
+        return epoch + "." + current.version();
+    }
+    
+    public CursorPage<EventSummaryDto> getAllActiveEvents(String cursor, int size) {
+        return page(current.all(), EventSummaryDto::getEventDateTime, cursor, size);
+    }
+    
+    public CursorPage<EventSummaryDto> getUpcomingEvents(String cursor, int size) {
+        return page(current.upcoming(), EventSummaryDto::getEventDateTime, cursor, size);
+    }
+    
+    public CursorPage<EventSummaryDto> getEventsWithOpenRegistration(String cursor, int size) {
+        return page(current.openRegistration(), EventSummaryDto::getRegistrationDeadline, cursor, size);
+    }
+    
+    // Every event still taking registrations, soonest deadline first
+    public List<EventSummaryDto> getOpenRegistrationEvents() {
+        return current.openRegistration();
+    }
+    
+    public CursorPage<EventSummaryDto> getEventsByCategory(String category, String cursor, int size) {
+        return page(current.byCategory().getOrDefault(category, List.of()), EventSummaryDto::getEventDateTime, cursor, size);
+    }
+    
+    // In the given order; ids of events that are not active (any more) are skipped
+    public List<EventSummaryDto> getEvents(List<Long> eventIds) {
+        Map<Long, EventSummaryDto> byId = current.byId();
+        List<EventSummaryDto> events = new ArrayList<>(eventIds.size());
+        for (Long eventId : eventIds) {
+            EventSummaryDto event = byId.get(eventId);
+            if (event != null) {
+                events.add(event);
+            }
+        }
+        return events;
+    }
+    
+    private void refreshDirtyEvents() {
+        refreshScheduled.set(false);
+        List<Long> eventIds = new ArrayList<>(dirtyEvents);
+        dirtyEvents.removeAll(eventIds);
+        if (eventIds.isEmpty()) {
+            return;
+        }
+        
+        try {
+            Map<Long, EventSummaryDto> summaries = new HashMap<>();
+            eventRepository.findSummariesByIds(eventIds).forEach(event -> summaries.put(event.getId(), event));
+            // null marks an event that is gone from the listings
+            Map<Long, EventSummaryDto> changes = new HashMap<>();
+            for (Long eventId : eventIds) {
+                EventSummaryDto event = summaries.get(eventId);
+                if (event != null && event.isActive()) {
+                    changes.put(eventId, event);
+                } else if (current.byId().containsKey(eventId)) {
+                    changes.put(eventId, null);
+                }
+            }
+            publish(changes);
+        } catch (RuntimeException e) {
+            logger.error("Refreshing listing snapshots failed, retrying", e);
+            dirtyEvents.addAll(eventIds);
+            if (refreshScheduled.compareAndSet(false, true)) {
+                scheduler.schedule(this::refreshDirtyEvents, refreshDelayMs, TimeUnit.MILLISECONDS);
+            }
+        }
+    }
+    
+    // Publishes the previous snapshot with the given events replaced (a null value removes the
+    // event), drops what started or closed since, and arms the timer for the next boundary
+    private void publish(Map<Long, EventSummaryDto> changes) {
+        LocalDateTime now = LocalDateTime.now();
+        Snapshot previous = current;
+        
+        // Events whose deadline passed are at the head of the open list; their registrationOpen flag flips
+        Map<Long, EventSummaryDto> updates = new HashMap<>(changes);
+        for (EventSummaryDto event : previous.openRegistration()) {
+            if (event.getRegistrationDeadline().isAfter(now)) {
+                break;
+            }
+            updates.putIfAbsent(event.getId(), event);
+        }
+        
+        Map<Long, EventSummaryDto> byId = new HashMap<>(previous.byId());
+        List<EventSummaryDto> added = new ArrayList<>();
+        Set<String> touchedCategories = new HashSet<>();
+        for (Map.Entry<Long, EventSummaryDto> update : updates.entrySet()) {
+            EventSummaryDto old = byId.remove(update.getKey());
+            if (old != null && old.getCategory() != null) {
+                touchedCategories.add(old.getCategory());
+            }
+            EventSummaryDto event = update.getValue();
+            if (event != null) {
+                if (event.isRegistrationOpen() != event.getRegistrationDeadline().isAfter(now)) {
+                    event = event.refreshed();
+                }
+                byId.put(event.getId(), event);
+                added.add(event);
+                if (event.getCategory() != null) {
+                    touchedCategories.add(event.getCategory());
+                }
+            }
+        }
+        
+        Set<Long> replaced = updates.keySet();
+        Predicate<EventSummaryDto> kept = event -> !replaced.contains(event.getId());
+        Predicate<EventSummaryDto> notStarted = event -> event.getEventDateTime().isAfter(now);
+        List<EventSummaryDto> all = patch(previous.all(), kept, added, BY_EVENT_TIME);
+        List<EventSummaryDto> upcoming = patch(previous.upcoming(), kept.and(notStarted),
+                filter(added, notStarted), BY_EVENT_TIME);
+        List<EventSummaryDto> openRegistration = patch(previous.openRegistration(),
+                kept.and(EventSummaryDto::isRegistrationOpen), filter(added, EventSummaryDto::isRegistrationOpen), BY_DEADLINE);
+        Map<String, List<EventSummaryDto>> byCategory = new HashMap<>(previous.byCategory());
+        for (String category : touchedCategories) {
+            List<EventSummaryDto> events = patch(previous.byCategory().getOrDefault(category, List.of()), kept,
+                    filter(added, event -> category.equals(event.getCategory())), BY_EVENT_TIME);
+            if (events.isEmpty()) {
+                byCategory.remove(category);
+            } else {
+                byCategory.put(category, events);
+            }
+        }
+        
+        current = new Snapshot(previous.version() + 1, all, upcoming, openRegistration,
+                Collections.unmodifiableMap(byId), Collections.unmodifiableMap(byCategory));
+        
+        LocalDateTime next = null;
+        if (!upcoming.isEmpty()) {
+            next = upcoming.get(0).getEventDateTime();
+        }
+        if (!openRegistration.isEmpty()) {
+            next = earliest(next, openRegistration.get(0).getRegistrationDeadline());
+        }
+        scheduleBoundary(now, next);
+    }
+    
+    // One pass over the sorted list: keeps the entries the filter accepts and merges the added ones in
+    private static List<EventSummaryDto> patch(List<EventSummaryDto> sorted, Predicate<EventSummaryDto> keep,
+                                               List<EventSummaryDto> added, Comparator<EventSummaryDto> order) {
+        List<EventSummaryDto> insertions = new ArrayList<>(added);
+        insertions.sort(order);
+        List<EventSummaryDto> result = new ArrayList<>(sorted.size() + insertions.size());
+        int next = 0;
+        for (EventSummaryDto event : sorted) {
+            if (!keep.test(event)) {
+                continue;
+            }
+            while (next < insertions.size() && order.compare(insertions.get(next), event) < 0) {
+                result.add(insertions.get(next++));
+            }
+            result.add(event);
+        }
+        result.addAll(insertions.subList(next, insertions.size()));
+        return Collections.unmodifiableList(result);
+    }
+    
+    private static List<EventSummaryDto> filter(List<EventSummaryDto> events, Predicate<EventSummaryDto> condition) {
+        return events.stream().filter(condition).toList();
+    }
+    
+    private void scheduleBoundary(LocalDateTime now, LocalDateTime next) {
+        if (nextBoundary != null) {
+            nextBoundary.cancel(false);
+            nextBoundary = null;
+        }
+        if (next != null) {
+            // One millisecond past the boundary, so the comparison in publish sees it as passed
+            long delayMs = Duration.between(now, next).toMillis() + 1;
+            nextBoundary = scheduler.schedule(() -> publish(Map.of()), delayMs, TimeUnit.MILLISECONDS);
+        }
+    }
+    
+    private static LocalDateTime earliest(LocalDateTime current, LocalDateTime candidate) {
+        return current == null || candidate.isBefore(current) ? candidate : current;
+    }
+    
+    private static CursorPage<EventSummaryDto> page(List<EventSummaryDto> events,
+                                                    Function<EventSummaryDto, LocalDateTime> sortKey,
+                                                    String cursor, int size) {
+        EventCursor after = EventCursor.decode(cursor);
+        int from = after == null ? 0 : firstAfter(events, sortKey, after);
+        int to = Math.min(events.size(), from + size);
+        
+        List<EventSummaryDto> page = events.subList(from, to);
+        String nextCursor = null;
+        if (to < events.size()) {
+            EventSummaryDto last = page.get(page.size() - 1);
+            nextCursor = new EventCursor(sortKey.apply(last), last.getId()).encode();
+        }
+        return new CursorPage<>(page, nextCursor);
+    }
+    
+    // Binary search for the first event strictly after the cursor in (sortKey, id) order
+    private static int firstAfter(List<EventSummaryDto> events, Function<EventSummaryDto, LocalDateTime> sortKey,
+                                  EventCursor after) {
+        int low = 0;
+        int high = events.size();
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            EventSummaryDto event = events.get(mid);
+            int comparison = sortKey.apply(event).compareTo(after.getTimestamp());
+            if (comparison == 0) {
+                comparison = event.getId().compareTo(after.getId());
+            }
+            if (comparison <= 0) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+    
+    private record Snapshot(long version, List<EventSummaryDto> all, List<EventSummaryDto> upcoming,
+                            List<EventSummaryDto> openRegistration, Map<Long, EventSummaryDto> byId,
+                            Map<String, List<EventSummaryDto>> byCategory) {}
+}
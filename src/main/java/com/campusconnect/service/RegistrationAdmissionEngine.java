@@ -0,0 +1,244 @@
+package com.campusconnect.service;
+
+import com.campusconnect.dto.EventSummaryDto;
+import com.campusconnect.entity.Event;
+import com.campusconnect.repository.EventParticipantJdbcRepository;
+import com.campusconnect.repository.EventRepository;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Queued admission for events with queuedAdmission enabled. Join requests are appended to a
+ * per-event queue and a single writer per event grants seats in batches: one row lock, one
+ * existence check, one batched insert and one counter update per batch instead of per join.
+ *
+ * The seat count is always re-read under the event row lock at the start of a batch and
+ * committed together with the inserted rows, so a crash loses at most unanswered requests
+ * and can never oversell an event.
+ */
+@Service
+public class RegistrationAdmissionEngine {
+    
+    private static final Logger logger = LoggerFactory.getLogger(RegistrationAdmissionEngine.class);
+    
+    @Autowired
+    private EventRepository eventRepository;
+    
+    @Autowired
+    private EventParticipantJdbcRepository participantJdbcRepository;
+    
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+    
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
+    
+    @Value("${admission.writer-threads}")
+    private int writerThreads;
+    
+    @Value("${admission.batch-size}")
+    private int batchSize;
+    
+    @Value("${admission.queue-capacity}")
+    private int queueCapacity;
+    
+    private final Map<Long, Lane> lanes = new ConcurrentHashMap<>();
+    
+    private ExecutorService writers;
+    
+    private TransactionTemplate transactionTemplate;
+    
+    @PostConstruct
+    void start() {
+        writers = Executors.newFixedThreadPool(writerThreads, new CustomizableThreadFactory("admission-writer-"));
+        transactionTemplate = new TransactionTemplate(transactionManager);
+    }
+    
+    @PreDestroy
+    void stop() {
+        writers.shutdown();
+    }
+    
+    @EventListener(ApplicationReadyEvent.class)
+    public void loadQueuedEvents() {
+        eventRepository.findQueuedAdmissionEventIds().forEach(eventId -> lanes.computeIfAbsent(eventId, Lane::new));
+    }
+    
+    public boolean isQueued(Long eventId) {
+        return lanes.containsKey(eventId);
+    }
+    
+    // Lanes follow committed state only: a rolled-back create never opens one, and deactivating
+    // or deleting an event closes its lane (requests already queued are rejected by grantSeats)
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onEventChanged(EventChangedEvent change) {
+        if (change.getType() == EventChangedEvent.Type.PARTICIPANTS_CHANGED) {
+            return;
+        }
+        Event event = change.getEvent();
+        if (change.getType() == EventChangedEvent.Type.SAVED && event.isActive() && event.isQueuedAdmission()) {
+            lanes.computeIfAbsent(event.getId(), Lane::new);
+        } else {
+            lanes.remove(change.getEventId());
+        }
+    }
+    
+    public CompletableFuture<EventSummaryDto> join(Long eventId, Long userId) {
+        Lane lane = lanes.get(eventId);
+        if (lane == null) {
+            throw new RuntimeException("Event does not use queued admission");
+        }
+        
+        JoinRequest request = new JoinRequest(userId);
+        if (!lane.queue.offer(request)) {
+            throw new RejectedExecutionException("Registration queue for event " + eventId + " is full");
+        }
+        lane.schedule();
+        return request.result;
+    }
+    
+    private void admit(Long eventId, List<JoinRequest> batch) {
+        List<JoinRequest> admitted = new ArrayList<>();
+        Map<JoinRequest, String> rejected = new LinkedHashMap<>();
+        
+        try {
+            transactionTemplate.executeWithoutResult(status -> grantSeats(eventId, batch, admitted, rejected));
+        } catch (RuntimeException e) {
+            logger.error("Admission batch for event {} failed", eventId, e);
+            batch.forEach(request -> request.reject("Registration failed, please try again"));
+            return;
+        }
+        
+        rejected.forEach(JoinRequest::reject);
+        if (admitted.isEmpty()) {
+            return;
+        }
+        // The seats are committed at this point, so a failed re-read must not turn into a rejection
+        EventSummaryDto summary = null;
+        try {
+            summary = eventRepository.findSummaryById(eventId).orElse(null);
+        } catch (RuntimeException e) {
+            logger.warn("Could not load event {} after admitting {} requests", eventId, admitted.size(), e);
+        } finally {
+            for (JoinRequest request : admitted) {
+                request.result.complete(summary);
+            }
+        }
+    }
+    
+    private void grantSeats(Long eventId, List<JoinRequest> batch, List<JoinRequest> admitted,
+                            Map<JoinRequest, String> rejected) {
+        Event event = eventRepository.findByIdForUpdate(eventId).orElse(null);
+        String closedReason = event == null ? "Event not found"
+                : !event.isActive() ? "Event is not active"
+                : !event.isRegistrationOpen() ? "Registration is closed for this event"
+                : null;
+        if (closedReason != null) {
+            batch.forEach(request -> rejected.put(request, closedReason));
+            return;
+        }
+        
+        Set<Long> batchUserIds = new HashSet<>();
+        batch.forEach(request -> batchUserIds.add(request.userId));
+        Set<Long> registered = participantJdbcRepository.findRegisteredUserIds(eventId, batchUserIds);
+        
+        int seatsLeft = event.getMaxParticipants() > 0
+                ? Math.max(0, event.getMaxParticipants() - event.getParticipantCount())
+                : Integer.MAX_VALUE;
+        for (JoinRequest request : batch) {
+            if (!registered.add(request.userId)) {
+                rejected.put(request, "You are already registered for this event");
+            } else if (seatsLeft == 0) {
+                rejected.put(request, "Event is full");
+            } else {
+                seatsLeft--;
+                admitted.add(request);
+            }
+        }
+        
+        if (!admitted.isEmpty()) {
+            List<Long> userIds = admitted.stream().map(request -> request.userId).toList();
+            participantJdbcRepository.insertParticipants(eventId, userIds);
+            eventRepository.addToParticipantCount(eventId, userIds.size());
+            eventPublisher.publishEvent(EventChangedEvent.participantsChanged(eventId));
+        }
+    }
+    
+    private static class JoinRequest {
+        private final Long userId;
+        private final CompletableFuture<EventSummaryDto> result = new CompletableFuture<>();
+        
+        JoinRequest(Long userId) {
+            this.userId = userId;
+        }
+        
+        void reject(String reason) {
+            result.completeExceptionally(new RuntimeException(reason));
+        }
+    }
+    
+    // One queue per event; the draining flag guarantees a single writer drains it at a time
+    private class Lane {
+        private final Long eventId;
+        private final BlockingQueue<JoinRequest> queue = new LinkedBlockingQueue<>(queueCapacity);
+        private final AtomicBoolean draining = new AtomicBoolean();
+        
+        Lane(Long eventId) {
+            this.eventId = eventId;
+        }
+        
+        void schedule() {
+            if (draining.compareAndSet(false, true)) {
+                writers.execute(this::drain);
+            }
+        }
+        
+        private void drain() {
+            try {
+                List<JoinRequest> batch = new ArrayList<>(batchSize);
+                while (queue.drainTo(batch, batchSize) > 0) {
+                    try {
+                        admit(eventId, batch);
+                    } finally {
+                        // No-op for answered requests; anything admit() left open would hang its caller
+                        batch.forEach(request -> request.reject("Registration failed, please try again"));
+                        batch.clear();
+                    }
+                }
+            } finally {
+                draining.set(false);
+                // A request may have arrived between the last drainTo and clearing the flag
+                if (!queue.isEmpty()) {
+                    schedule();
+                }
+            }
+        }
+    }
+}
@@ -1,34 +1,95 @@
 package com.campusconnect.service;
 
+import com.campusconnect.dto.CursorPage;
+import com.campusconnect.dto.UserCursor;
 import com.campusconnect.dto.UserDto;
 import com.campusconnect.entity.User;
+import com.campusconnect.repository.EventCacheEvictor;
+import com.campusconnect.repository.EventRepository;
 import com.campusconnect.repository.UserRepository;
+import com.campusconnect.security.AuthenticatedPrincipal;
+import com.campusconnect.security.PrincipalCache;
+import com.campusconnect.search.UserDirectoryIndex;
+import com.campusconnect.security.TokenVersionRegistry;
+import io.micrometer.core.annotation.Timed;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.Limit;
+import org.springframework.security.authentication.BadCredentialsException;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 @Service
+@Timed("service.method")
 public class UserService implements UserDetailsService {
     
+    private static final int MAX_PAGE_SIZE = 100;
+    
     @Autowired
     private UserRepository userRepository;
     
+    @Autowired
+    private EventRepository eventRepository;
+    
+    @Autowired
+    private EventCacheEvictor eventCacheEvictor;
+    
     @Autowired
     private PasswordEncoder passwordEncoder;
     
+    @Autowired
+    private PrincipalCache principalCache;
+    
+    @Autowired
+    private TokenVersionRegistry tokenVersions;
+    
+    @Autowired
+    private PasswordHashingService passwordHashingService;
+    
+    @Autowired
+    private UserDirectoryIndex directoryIndex;
+    
     @Override
     public UserDetails loadUserByUsername(String username) throws UsernameNotFoundException {
         return userRepository.findByUsername(username)
                 .orElseThrow(() -> new UsernameNotFoundException("User not found with username: " + username));
     }
     
+    // Used for every authenticated request; served from the principal cache
+    public AuthenticatedPrincipal loadPrincipal(String username) throws UsernameNotFoundException {
+        return principalCache.get(username, key -> AuthenticatedPrincipal.fromUser(
+                userRepository.findByUsername(key)
+                        .orElseThrow(() -> new UsernameNotFoundException("User not found with username: " + key))));
+    }
+    
+    /**
+     * Verifies a login. The user is loaded once and the BCrypt check runs on the hashing pool;
+     * the returned future fails with BadCredentialsException for any mismatch.
+     */
+    public CompletableFuture<User> authenticate(String username, String password) {
+        User user = userRepository.findByUsername(username).orElse(null);
+        String encodedPassword = user != null && user.isEnabled() ? user.getPassword() : null;
+        return passwordHashingService.matches(password, encodedPassword).thenApply(matches -> {
+            if (!matches) {
+                throw new BadCredentialsException("Invalid username or password");
+            }
+            return user;
+        });
+    }
+    
     public UserDto createUser(UserDto userDto) {
         // Check if username or email already exists
         if (userRepository.existsByUsername(userDto.getUsername())) {
@@ -51,10 +112,26 @@ public class UserService implements UserDetailsService {
         user.setDepartment(userDto.getDepartment());
         
         User savedUser = userRepository.save(user);
-        return UserDto.fromEntity(savedUser);
+        UserDto savedDto = UserDto.fromEntity(savedUser);
+        directoryIndex.index(savedDto);
+        return savedDto;
     }
     
-    public UserDto updateUser(Long userId, UserDto userDto) {
+    /**
+     * Hashes the password of a profile update on the hashing pool, before updateUser opens its
+     * transaction. Completes with null when the password is missing or the current one.
+     */
+    public CompletableFuture<String> hashNewPassword(Long userId, String password) {
+        if (password == null || password.isBlank()) {
+            return CompletableFuture.completedFuture(null);
+        }
+        String encodedPassword = userRepository.findById(userId).map(User::getPassword).orElse(null);
+        return passwordHashingService.hashIfChanged(password, encodedPassword);
+    }
+    
+    // newPasswordHash comes from hashNewPassword; null keeps the current password
+    @Transactional
+    public UserDto updateUser(Long userId, UserDto userDto, String newPasswordHash) {
         User user = userRepository.findById(userId)
                 .orElseThrow(() -> new RuntimeException("User not found"));
         
@@ -71,8 +148,12 @@ public class UserService implements UserDetailsService {
             }
             user.setEmail(userDto.getEmail());
         }
-        if (userDto.getPassword() != null) {
-            user.setPassword(passwordEncoder.encode(userDto.getPassword()));
+        // The role cannot be changed here, so only a new password revokes tokens
+        boolean passwordChanged = newPasswordHash != null;
+        if (passwordChanged) {
+            user.setPassword(newPasswordHash);
+            // Tokens issued with the old password stop working
+            user.setTokenVersion(user.getTokenVersion() + 1);
         }
         if (userDto.getStudentId() != null) {
             user.setStudentId(userDto.getStudentId());
@@ -82,7 +163,25 @@ public class UserService implements UserDetailsService {
         }
         
         User updatedUser = userRepository.save(user);
-        return UserDto.fromEntity(updatedUser);
+        List<Long> joinedEventIds = eventRepository.findEventIdsByParticipant(updatedUser.getId());
+        if (!joinedEventIds.isEmpty()) {
+            eventRepository.bumpVersions(joinedEventIds);
+            eventCacheEvictor.evictAfterCommit(joinedEventIds);
+        }
+        UserDto updatedDto = UserDto.fromEntity(updatedUser);
+        int tokenVersion = updatedUser.getTokenVersion();
+        // The in-memory copies only take the change once it is committed; a rollback leaves them as they were
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                principalCache.invalidate(updatedDto.getUsername());
+                if (passwordChanged) {
+                    tokenVersions.setMinimumVersion(updatedDto.getId(), tokenVersion);
+                }
+                directoryIndex.index(updatedDto);
+            }
+        });
+        return updatedDto;
     }
     
     public UserDto getUserById(Long userId) {
@@ -103,18 +202,50 @@ public class UserService implements UserDetailsService {
                 .collect(Collectors.toList());
     }
     
-    public List<UserDto> getUsersByRole(User.Role role) {
-        return userRepository.findAll().stream()
-                .filter(user -> user.getRole() == role)
-                .map(UserDto::fromEntity)
+    public CursorPage<UserDto> getUsersByRole(User.Role role, String department, String cursor, int size) {
+        UserCursor after = UserCursor.decode(cursor);
+        int pageSize = pageSize(size);
+        Limit limit = Limit.of(pageSize + 1);
+        List<UserDto> users;
+        if (department == null) {
+            users = after == null
+                    ? userRepository.findDirectoryEntriesByRole(role, limit)
+                    : userRepository.findDirectoryEntriesByRoleAfter(role, after.getId(), limit);
+        } else {
+            users = after == null
+                    ? userRepository.findDirectoryEntriesByRoleAndDepartment(role, department, limit)
+                    : userRepository.findDirectoryEntriesByRoleAndDepartmentAfter(role, department, after.getId(), limit);
+        }
+        
+        boolean hasMore = users.size() > pageSize;
+        List<UserDto> page = hasMore ? users.subList(0, pageSize) : users;
+        String nextCursor = hasMore ? new UserCursor(page.get(page.size() - 1).getId()).encode() : null;
+        return new CursorPage<>(page, nextCursor);
+    }
+    
+    public CursorPage<UserDto> searchDirectory(String prefix, String cursor, int size) {
+        UserDirectoryIndex.DirectoryPage hits = directoryIndex.search(prefix, cursor, pageSize(size));
+        if (hits.getUserIds().isEmpty()) {
+            return new CursorPage<>(List.of(), null);
+        }
+        
+        // One statement for the page, then back into the index's alphabetical order
+        Map<Long, UserDto> users = userRepository.findDirectoryEntriesByIds(hits.getUserIds()).stream()
+                .collect(Collectors.toMap(UserDto::getId, Function.identity()));
+        List<UserDto> ordered = hits.getUserIds().stream()
+                .map(users::get)
+                .filter(Objects::nonNull)
                 .collect(Collectors.toList());
+        return new CursorPage<>(ordered, hits.getNextCursor());
     }
     
     public void deleteUser(Long userId) {
-        if (!userRepository.existsById(userId)) {
-            throw new RuntimeException("User not found");
-        }
-        userRepository.deleteById(userId);
+        User user = userRepository.findById(userId)
+                .orElseThrow(() -> new RuntimeException("User not found"));
+        userRepository.delete(user);
+        principalCache.invalidate(user.getUsername());
+        tokenVersions.revokeAll(userId);
+        directoryIndex.remove(userId);
     }
     
     public boolean existsByUsername(String username) {
@@ -128,4 +259,11 @@ public class UserService implements UserDetailsService {
     public Optional<User> findByUsername(String username) {
         return userRepository.findByUsername(username);
     }
+    
+    private static int pageSize(int size) {
+        if (size < 1) {
+            throw new RuntimeException("Page size must be positive");
+        }
+        return Math.min(size, MAX_PAGE_SIZE);
+    }
 }
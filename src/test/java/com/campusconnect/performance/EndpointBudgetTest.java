@@ -0,0 +1,211 @@
+package com.campusconnect.performance;
+
+import com.campusconnect.dto.EventSummaryDto;
+import com.campusconnect.service.PublicListingSnapshots;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.request.MockHttpServletRequestBuilder;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+
+/**
+ * Statement, allocation and time budgets per endpoint on a seeded synthetic dataset (120 events,
+ * about 100 of them active, and 500 students). Statement budgets are exact: the count of a
+ * request is deterministic, so any extra query (an N+1 in a DTO mapping, a repeated user
+ * lookup) fails the build. Allocation and time budgets are looser, to absorb JIT and machine
+ * differences while still catching a change in kind, and are only logged unless the
+ * strict-budgets profile is active.
+ *
+ * A failing budget either means a regression or an intended change; for the latter, take the
+ * new numbers from the logged measurements of a run and update the budget here.
+ */
+@SpringBootTest(properties = {
+        "synthetic-data.users=500",
+        "synthetic-data.admins=2",
+        "synthetic-data.events=120",
+        "synthetic-data.registrations=5000",
+        "synthetic-data.batch-size=500",
+        "catalog.enabled=false",
+        "database-executor.enabled=false",
+        "logging.level.com.campusconnect=WARN",
+        "logging.level.com.campusconnect.performance=INFO",
+        "logging.level.org.springframework.security=WARN",
+        // Resolved as a plain classpath resource; the classpath: URL scheme is not available under surefire
+        "spring.jpa.properties.hibernate.javax.cache.uri=ehcache.xml"
+})
+@AutoConfigureMockMvc
+@ActiveProfiles("synthetic-data")
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+class EndpointBudgetTest {
+    
+    private static final int WARMUPS = 20;
+    
+    private static final int RUNS = 30;
+    
+    @Autowired
+    private MockMvc mockMvc;
+    
+    @Autowired
+    private MeterRegistry meterRegistry;
+    
+    @Autowired
+    private ObjectMapper objectMapper;
+    
+    @Autowired
+    private PublicListingSnapshots listingSnapshots;
+    
+    private String adminToken;
+    
+    private String studentToken;
+    
+    @BeforeAll
+    void setUp() throws Exception {
+        // The listing snapshot is loaded on its own thread once the application is ready
+        long deadline = System.currentTimeMillis() + 30_000;
+        while (listingSnapshots.getAllActiveEvents(null, 1).getItems().isEmpty()) {
+            assertThat(System.currentTimeMillis()).as("listing snapshot loaded").isLessThan(deadline);
+            Thread.sleep(50);
+        }
+        adminToken = login("admin", "admin123");
+        studentToken = login("student1", "student123");
+    }
+    
+    @Test
+    void publicListingOfHundredEvents() throws Exception {
+        List<RequestBudget.Sample> samples = measure(get("/api/events/public/all").param("size", "100"));
+        
+        assertThat(json(samples.get(0)).get("items")).hasSize(100);
+        new RequestBudget(0, 1_200_000, 200).assertMet("GET /api/events/public/all", samples);
+    }
+    
+    @Test
+    void publicEventById() throws Exception {
+        Long eventId = mostPopularEvent().getId();
+        new RequestBudget(1, 1_600_000, 200)
+                .assertMet("GET /api/events/public/{eventId}", measure(get("/api/events/public/" + eventId)));
+    }
+    
+    @Test
+    void publicEventsByCategory() throws Exception {
+        new RequestBudget(0, 1_000_000, 200).assertMet("GET /api/events/public/category/{category}",
+                measure(get("/api/events/public/category/Academic").param("size", "20")));
+    }
+    
+    @Test
+    void publicSearch() throws Exception {
+        new RequestBudget(1, 1_000_000, 200).assertMet("GET /api/events/public/search",
+                measure(get("/api/events/public/search").param("keyword", "workshop")));
+    }
+    
+    @Test
+    void myParticipations() throws Exception {
+        new RequestBudget(2, 1_000_000, 200).assertMet("GET /api/events/my-participations",
+                measure(authorized(get("/api/events/my-participations"), studentToken)));
+    }
+    
+    @Test
+    void myEvents() throws Exception {
+        new RequestBudget(2, 1_200_000, 200).assertMet("GET /api/events/my-events",
+                measure(authorized(get("/api/events/my-events"), adminToken)));
+    }
+    
+    @Test
+    void profile() throws Exception {
+        new RequestBudget(0, 500_000, 200).assertMet("GET /api/users/profile",
+                measure(authorized(get("/api/users/profile"), studentToken)));
+    }
+    
+    @Test
+    void studentDirectory() throws Exception {
+        new RequestBudget(1, 800_000, 200).assertMet("GET /api/users/students",
+                measure(authorized(get("/api/users/students").param("size", "50"), adminToken)));
+    }
+    
+    @Test
+    void joinAndLeave() throws Exception {
+        Long eventId = eventWithFreeSeats().getId();
+        MockHttpServletRequestBuilder join = authorized(post("/api/events/" + eventId + "/join"), studentToken);
+        MockHttpServletRequestBuilder leave = authorized(post("/api/events/" + eventId + "/leave"), studentToken);
+        
+        // Start unregistered, then alternate so every join and leave succeeds
+        RequestBudget.sample(mockMvc, meterRegistry, leave);
+        List<RequestBudget.Sample> joins = new ArrayList<>();
+        List<RequestBudget.Sample> leaves = new ArrayList<>();
+        for (int i = 0; i < WARMUPS + RUNS; i++) {
+            RequestBudget.Sample joined = RequestBudget.sample(mockMvc, meterRegistry, join);
+            RequestBudget.Sample left = RequestBudget.sample(mockMvc, meterRegistry, leave);
+            assertThat(joined.result().getResponse().getStatus()).isEqualTo(200);
+            assertThat(left.result().getResponse().getStatus()).isEqualTo(200);
+            if (i >= WARMUPS) {
+                joins.add(joined);
+                leaves.add(left);
+            }
+        }
+        
+        new RequestBudget(3, 1_000_000, 250).assertMet("POST /api/events/{eventId}/join", joins);
+        new RequestBudget(3, 900_000, 250).assertMet("POST /api/events/{eventId}/leave", leaves);
+    }
+    
+    @Test
+    void login() throws Exception {
+        MockHttpServletRequestBuilder login = post("/api/auth/login")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("{\"username\":\"student2\",\"password\":\"student123\"}");
+        // BCrypt runs on the hashing pool, so only the request thread's share is counted
+        new RequestBudget(1, 600_000, 1_500).assertMet("POST /api/auth/login",
+                RequestBudget.samples(mockMvc, meterRegistry, login, 3, 5));
+    }
+    
+    private List<RequestBudget.Sample> measure(MockHttpServletRequestBuilder request) throws Exception {
+        List<RequestBudget.Sample> samples = RequestBudget.samples(mockMvc, meterRegistry, request, WARMUPS, RUNS);
+        assertThat(samples.get(0).result().getResponse().getStatus()).isEqualTo(200);
+        return samples;
+    }
+    
+    private String login(String username, String password) throws Exception {
+        RequestBudget.Sample sample = RequestBudget.sample(mockMvc, meterRegistry, post("/api/auth/login")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("{\"username\":\"" + username + "\",\"password\":\"" + password + "\"}"));
+        assertThat(sample.result().getResponse().getStatus()).isEqualTo(200);
+        return json(sample).get("token").asText();
+    }
+    
+    private JsonNode json(RequestBudget.Sample sample) throws Exception {
+        return objectMapper.readTree(sample.result().getResponse().getContentAsString());
+    }
+    
+    private static MockHttpServletRequestBuilder authorized(MockHttpServletRequestBuilder request, String token) {
+        return request.header(HttpHeaders.AUTHORIZATION, "Bearer " + token);
+    }
+    
+    // The event with the most participants, so loading its participants would show up
+    private EventSummaryDto mostPopularEvent() {
+        return listingSnapshots.getAllActiveEvents(null, 100).getItems().stream()
+                .max((a, b) -> Integer.compare(a.getCurrentParticipants(), b.getCurrentParticipants()))
+                .orElseThrow();
+    }
+    
+    private EventSummaryDto eventWithFreeSeats() {
+        return listingSnapshots.getOpenRegistrationEvents().stream()
+                .filter(event -> event.getMaxParticipants() == 0
+                        || event.getCurrentParticipants() < event.getMaxParticipants() - 1)
+                .findFirst()
+                .orElseThrow();
+    }
+}
@@ -0,0 +1,114 @@
+package com.campusconnect.performance;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.RequestBuilder;
+
+import java.lang.management.ManagementFactory;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
+
+/**
+ * Statement, allocation and time budget of one endpoint, and the measurement of requests
+ * against it through MockMvc.
+ *
+ * Statements are the per-request count of http.server.requests.sql.statements, so the same
+ * number production reports; the budget is checked against the worst run. Allocation and time
+ * are medians over the runs, after warm-up. MockMvc handles the request on the test thread
+ * (with the database executor disabled), so the thread's allocation counter covers the request,
+ * MockMvc's own overhead included; work handed to other pools, like BCrypt, is not counted.
+ *
+ * Statement budgets always fail the test. Allocation and time depend on the JIT, the machine and
+ * whatever else it is running, so they only log a warning unless budgets.strict is set (the
+ * strict-budgets Maven profile).
+ */
+record RequestBudget(int maxStatements, long maxAllocatedBytes, long maxMillis) {
+    
+    static final String STATEMENTS_METRIC = "http.server.requests.sql.statements";
+    
+    private static final Logger logger = LoggerFactory.getLogger(RequestBudget.class);
+    
+    private static final boolean STRICT = Boolean.getBoolean("budgets.strict");
+    
+    private static final com.sun.management.ThreadMXBean THREADS =
+            (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+    
+    void assertMet(String endpoint, List<Sample> samples) {
+        int statements = samples.stream().mapToInt(Sample::statements).max().orElse(0);
+        long allocatedBytes = median(samples.stream().mapToLong(Sample::allocatedBytes).toArray());
+        long millis = median(samples.stream().mapToLong(Sample::nanos).toArray()) / 1_000_000;
+        // Logged so budgets can be re-baselined from a passing run
+        logger.info("{}: {} statements, {} bytes, {} ms (budget {}, {}, {})", endpoint, statements,
+                allocatedBytes, millis, maxStatements, maxAllocatedBytes, maxMillis);
+        
+        assertThat(statements)
+                .as("%s: SQL statements per request (budget %d)", endpoint, maxStatements)
+                .isLessThanOrEqualTo(maxStatements);
+        if (STRICT) {
+            assertThat(allocatedBytes)
+                    .as("%s: median bytes allocated per request (budget %d)", endpoint, maxAllocatedBytes)
+                    .isLessThanOrEqualTo(maxAllocatedBytes);
+            assertThat(millis)
+                    .as("%s: median milliseconds per request (budget %d)", endpoint, maxMillis)
+                    .isLessThanOrEqualTo(maxMillis);
+        } else if (allocatedBytes > maxAllocatedBytes || millis > maxMillis) {
+            logger.warn("{}: over the allocation or time budget ({} bytes, {} ms; budget {}, {})", endpoint,
+                    allocatedBytes, millis, maxAllocatedBytes, maxMillis);
+        }
+    }
+    
+    /**
+     * Runs the request, following an async start through to its final dispatch, and returns
+     * what it cost.
+     */
+    static Sample sample(MockMvc mockMvc, MeterRegistry meterRegistry, RequestBuilder request) throws Exception {
+        double statementsBefore = totalStatements(meterRegistry);
+        long threadId = Thread.currentThread().getId();
+        long allocatedBefore = THREADS.getThreadAllocatedBytes(threadId);
+        long start = System.nanoTime();
+        
+        MvcResult result = mockMvc.perform(request).andReturn();
+        if (result.getRequest().isAsyncStarted()) {
+            result.getAsyncResult();
+            result = mockMvc.perform(asyncDispatch(result)).andReturn();
+        }
+        
+        long nanos = System.nanoTime() - start;
+        long allocatedBytes = THREADS.getThreadAllocatedBytes(threadId) - allocatedBefore;
+        int statements = (int) (totalStatements(meterRegistry) - statementsBefore);
+        return new Sample(result, statements, allocatedBytes, nanos);
+    }
+    
+    static List<Sample> samples(MockMvc mockMvc, MeterRegistry meterRegistry, RequestBuilder request,
+                                int warmups, int runs) throws Exception {
+        for (int i = 0; i < warmups; i++) {
+            sample(mockMvc, meterRegistry, request);
+        }
+        List<Sample> samples = new ArrayList<>(runs);
+        for (int i = 0; i < runs; i++) {
+            samples.add(sample(mockMvc, meterRegistry, request));
+        }
+        return samples;
+    }
+    
+    private static double totalStatements(MeterRegistry meterRegistry) {
+        return meterRegistry.find(STATEMENTS_METRIC).summaries().stream()
+                .mapToDouble(DistributionSummary::totalAmount)
+                .sum();
+    }
+    
+    private static long median(long[] values) {
+        Arrays.sort(values);
+        return values.length == 0 ? 0 : values[values.length / 2];
+    }
+    
+    record Sample(MvcResult result, int statements, long allocatedBytes, long nanos) {}
+}